@@ -0,0 +1,72 @@
+/*
+ * Copyright 2026 Baptiste MORIN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.morinb.func;
+
+import java.util.Objects;
+
+/**
+ * Represents the errors collected under an {@link AccumulationPolicy}.
+ *
+ * @param <L>    the type of the errors
+ * @param errors the retained errors, in encounter order
+ * @param count  the total number of errors encountered, retained or not
+ */
+public record AccumulatedErrors<L>(NonEmptyList<L> errors, long count)
+{
+    /**
+     * Creates an AccumulatedErrors object.
+     *
+     * @param errors the retained errors
+     * @param count  the total number of errors encountered
+     * @throws NullPointerException     if errors is null
+     * @throws IllegalArgumentException if count is lower than the number of retained errors
+     */
+    public AccumulatedErrors
+    {
+        Objects.requireNonNull(errors, "errors is null");
+        if (count < errors.size())
+        {
+            throw new IllegalArgumentException("count cannot be lower than the number of retained errors");
+        }
+    }
+
+    /**
+     * Returns the number of errors that were counted but not retained.
+     *
+     * @return the number of dropped errors
+     */
+    public long dropped()
+    {
+        return count - errors.size();
+    }
+
+    /**
+     * Checks if some errors were counted but not retained.
+     *
+     * @return true if some errors were dropped, false otherwise
+     */
+    public boolean isTruncated()
+    {
+        return dropped() > 0;
+    }
+
+    @Override
+    public String toString()
+    {
+        return "AccumulatedErrors(" + errors + ", count=" + count + ")";
+    }
+}
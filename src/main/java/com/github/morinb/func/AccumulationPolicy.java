@@ -0,0 +1,84 @@
+/*
+ * Copyright 2026 Baptiste MORIN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.morinb.func;
+
+/**
+ * Describes how Left values are accumulated by the error accumulating combinators of {@link Either}.
+ * <p>
+ * A policy retains at most {@code maxErrors} errors. Errors found once this limit is reached are only counted,
+ * unless the policy is short-circuiting, in which case no further input is evaluated.
+ *
+ * @param maxErrors    the maximum number of errors to retain, strictly positive
+ * @param shortCircuit {@code true} to stop evaluating once {@code maxErrors} errors have been collected
+ */
+public record AccumulationPolicy(int maxErrors, boolean shortCircuit)
+{
+    /**
+     * Policy retaining every error.
+     */
+    private static final AccumulationPolicy UNBOUNDED = new AccumulationPolicy(Integer.MAX_VALUE, false);
+
+    /**
+     * Creates an AccumulationPolicy.
+     *
+     * @param maxErrors    the maximum number of errors to retain
+     * @param shortCircuit {@code true} to stop evaluating once {@code maxErrors} errors have been collected
+     * @throws IllegalArgumentException if maxErrors is not strictly positive
+     */
+    public AccumulationPolicy
+    {
+        if (maxErrors <= 0)
+        {
+            throw new IllegalArgumentException("maxErrors must be strictly positive");
+        }
+    }
+
+    /**
+     * Returns a policy retaining every error.
+     *
+     * @return a policy retaining every error
+     */
+    public static AccumulationPolicy unbounded()
+    {
+        return UNBOUNDED;
+    }
+
+    /**
+     * Returns a policy retaining the first {@code maxErrors} errors and counting the others.
+     *
+     * @param maxErrors the maximum number of errors to retain
+     * @return a policy retaining the first {@code maxErrors} errors
+     * @throws IllegalArgumentException if maxErrors is not strictly positive
+     */
+    public static AccumulationPolicy keepFirst(final int maxErrors)
+    {
+        return new AccumulationPolicy(maxErrors, false);
+    }
+
+    /**
+     * Returns a policy retaining the first {@code maxErrors} errors and stopping the evaluation as soon as
+     * they have been collected.
+     *
+     * @param maxErrors the number of errors after which the evaluation stops
+     * @return a short-circuiting policy
+     * @throws IllegalArgumentException if maxErrors is not strictly positive
+     */
+    public static AccumulationPolicy stopAfter(final int maxErrors)
+    {
+        return new AccumulationPolicy(maxErrors, true);
+    }
+}
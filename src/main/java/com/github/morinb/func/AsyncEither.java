@@ -0,0 +1,366 @@
+/*
+ * Copyright 2026 Baptiste MORIN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.morinb.func;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+
+/**
+ * An Either whose value is computed asynchronously. Every combinator returns immediately and is chained on the
+ * underlying {@link CompletableFuture}, so the railway semantics of {@link Either} are kept without blocking.
+ * <p>
+ * The mapping functions run on the executor of this AsyncEither, which defaults to a virtual-thread-per-task
+ * executor when the runtime provides one. If a mapping function throws, the resulting future completes
+ * exceptionally.
+ * <p>
+ * An AsyncEither created under a {@link Deadline} completes exceptionally with a {@link DeadlineExceededException}
+ * once it expires, and its mapping functions are not applied after the expiry.
+ *
+ * @param <L> The type of the left value
+ * @param <R> The type of the right value
+ */
+public final class AsyncEither<L, R>
+{
+    private final CompletableFuture<Either<L, R>> future;
+    private final Executor executor;
+    private final Deadline deadline;
+
+    /**
+     * Creates an AsyncEither.
+     *
+     * @param future   the future holding the Either
+     * @param executor the executor running the mapping functions
+     * @param deadline the deadline checked before each mapping function, or null if there is none
+     */
+    private AsyncEither(final CompletableFuture<Either<L, R>> future, final Executor executor, final Deadline deadline)
+    {
+        this.future = future;
+        this.executor = executor;
+        this.deadline = deadline;
+    }
+
+    /**
+     * Creates an already completed AsyncEither holding the given Either.
+     *
+     * @param either the Either to hold
+     * @param <L>    The type of the left value
+     * @param <R>    The type of the right value
+     * @return an already completed AsyncEither
+     * @throws NullPointerException if either is null
+     */
+    @SuppressWarnings("unchecked")
+    public static <L, R> AsyncEither<L, R> of(final Either<? extends L, ? extends R> either)
+    {
+        Objects.requireNonNull(either, "either is null");
+        return new AsyncEither<>(CompletableFuture.completedFuture((Either<L, R>) either), DefaultExecutor.get(), Deadline.captured());
+    }
+
+    /**
+     * Creates an already completed AsyncEither holding a Right value.
+     *
+     * @param value the right value
+     * @param <L>   The type of the left value
+     * @param <R>   The type of the right value
+     * @return an already completed AsyncEither holding a Right value
+     */
+    public static <L, R> AsyncEither<L, R> right(final R value)
+    {
+        return of(Either.right(value));
+    }
+
+    /**
+     * Creates an already completed AsyncEither holding a Left value.
+     *
+     * @param value the left value
+     * @param <L>   The type of the left value
+     * @param <R>   The type of the right value
+     * @return an already completed AsyncEither holding a Left value
+     */
+    public static <L, R> AsyncEither<L, R> left(final L value)
+    {
+        return of(Either.left(value));
+    }
+
+    /**
+     * Wraps a completion stage producing an Either, typically returned by a non-blocking client.
+     *
+     * @param stage the completion stage producing the Either
+     * @param <L>   The type of the left value
+     * @param <R>   The type of the right value
+     * @return an AsyncEither completing with the stage
+     * @throws NullPointerException if stage is null
+     */
+    public static <L, R> AsyncEither<L, R> fromStage(final CompletionStage<? extends Either<L, R>> stage)
+    {
+        Objects.requireNonNull(stage, "stage is null");
+        return new AsyncEither<>(stage.<Either<L, R>>thenApply(either -> either).toCompletableFuture(), DefaultExecutor.get(), Deadline.captured());
+    }
+
+    /**
+     * Computes an Either asynchronously on the default executor.
+     *
+     * @param supplier the function computing the Either
+     * @param <L>      The type of the left value
+     * @param <R>      The type of the right value
+     * @return an AsyncEither completing with the result of the supplier
+     * @throws NullPointerException if supplier is null
+     */
+    public static <L, R> AsyncEither<L, R> supplyAsync(final Function0<? extends Either<L, R>> supplier)
+    {
+        return supplyAsync(supplier, DefaultExecutor.get());
+    }
+
+    /**
+     * Computes an Either asynchronously on the given executor.
+     * Under a {@link Deadline}, the computation is interrupted on expiry and the AsyncEither completes exceptionally
+     * with a {@link DeadlineExceededException}.
+     *
+     * @param supplier the function computing the Either
+     * @param executor the executor running the supplier and the subsequent mapping functions
+     * @param <L>      The type of the left value
+     * @param <R>      The type of the right value
+     * @return an AsyncEither completing with the result of the supplier
+     * @throws NullPointerException if supplier or executor is null
+     */
+    @SuppressWarnings("squid:S1181")
+    public static <L, R> AsyncEither<L, R> supplyAsync(final Function0<? extends Either<L, R>> supplier, final Executor executor)
+    {
+        Objects.requireNonNull(supplier, "supplier is null");
+        Objects.requireNonNull(executor, "executor is null");
+        final var promise = new CompletableFuture<Either<L, R>>();
+        final var task = new FutureTask<Void>(Deadline.propagate(() ->
+        {
+            try
+            {
+                promise.complete(supplier.apply());
+            } catch (final Throwable e)
+            {
+                promise.completeExceptionally(e);
+            }
+        }), null);
+        executor.execute(task);
+        Deadline.failOnExpiry(promise, task);
+        return new AsyncEither<>(promise, executor, Deadline.captured());
+    }
+
+    /**
+     * Returns an AsyncEither completing with the same Either, whose subsequent mapping functions run on the given
+     * executor.
+     *
+     * @param executor the executor running the subsequent mapping functions
+     * @return an AsyncEither using the given executor
+     * @throws NullPointerException if executor is null
+     */
+    public AsyncEither<L, R> withExecutor(final Executor executor)
+    {
+        Objects.requireNonNull(executor, "executor is null");
+        return new AsyncEither<>(future, executor, deadline);
+    }
+
+    /**
+     * Maps the right value once available.
+     *
+     * @param mapper the function to apply to the right value
+     * @param <T>    The type of the mapped value
+     * @return an AsyncEither holding the mapped value, or the same Left
+     * @throws NullPointerException if mapper is null
+     */
+    public <T> AsyncEither<L, T> map(final Function1<? super R, ? extends T> mapper)
+    {
+        Objects.requireNonNull(mapper, "mapper is null");
+        final var bound = continuationDeadline();
+        return new AsyncEither<>(future.thenApplyAsync(either -> Deadline.within(bound, () -> either.map(mapper), AsyncEither::exceeded), executor), executor, bound);
+    }
+
+    /**
+     * Maps the left value once available.
+     *
+     * @param mapper the function to apply to the left value
+     * @param <T>    The type of the mapped left value
+     * @return an AsyncEither holding the mapped left value, or the same Right
+     * @throws NullPointerException if mapper is null
+     */
+    public <T> AsyncEither<T, R> mapLeft(final Function1<? super L, ? extends T> mapper)
+    {
+        Objects.requireNonNull(mapper, "mapper is null");
+        final var bound = continuationDeadline();
+        return new AsyncEither<>(future.thenApplyAsync(either -> Deadline.within(bound, () -> either.mapLeft(mapper), AsyncEither::exceeded), executor), executor, bound);
+    }
+
+    /**
+     * Chains an asynchronous computation on the right value once available. A Left short-circuits the chain.
+     * The mapper runs bound to the deadline of this AsyncEither, if any, and is not applied once it has expired.
+     *
+     * @param mapper the function returning the next asynchronous computation
+     * @param <T>    The type of the right value of the next computation
+     * @return an AsyncEither completing with the next computation, or the same Left
+     * @throws NullPointerException if mapper is null
+     */
+    @SuppressWarnings("unchecked")
+    public <T> AsyncEither<L, T> flatMap(final Function1<? super R, ? extends AsyncEither<L, ? extends T>> mapper)
+    {
+        Objects.requireNonNull(mapper, "mapper is null");
+        final var bound = continuationDeadline();
+        return new AsyncEither<>(future.thenComposeAsync(either -> either.isRight()
+                ? Deadline.within(bound, () -> ((AsyncEither<L, T>) mapper.apply(either.get())).future, AsyncEither::exceeded)
+                : CompletableFuture.completedFuture((Either<L, T>) either), executor), executor, bound);
+    }
+
+    /**
+     * Folds the Either once available.
+     *
+     * @param leftMapper  the function to apply to the left value
+     * @param rightMapper the function to apply to the right value
+     * @param <U>         The type of the result
+     * @return a future completing with the result of the applied function
+     * @throws NullPointerException if leftMapper or rightMapper is null
+     */
+    public <U> CompletableFuture<U> fold(final Function1<? super L, ? extends U> leftMapper, final Function1<? super R, ? extends U> rightMapper)
+    {
+        Objects.requireNonNull(leftMapper, "leftMapper is null");
+        Objects.requireNonNull(rightMapper, "rightMapper is null");
+        final var bound = continuationDeadline();
+        return future.thenApplyAsync(either -> Deadline.within(bound, () -> either.fold(leftMapper, rightMapper), AsyncEither::exceeded), executor);
+    }
+
+    /**
+     * Returns the future holding the Either.
+     *
+     * @return the future holding the Either
+     */
+    public CompletableFuture<Either<L, R>> toCompletableFuture()
+    {
+        return future;
+    }
+
+    /**
+     * Zips or accumulates the values of two AsyncEither once both are available, without blocking.
+     * See {@link Either#zipOrAccumulate(Either, Either, Function2)}.
+     * The transform function runs on the executor of {@code a}.
+     *
+     * @param <R>       the type of the Left value
+     * @param <A>       the type of the Right value for a
+     * @param <B>       the type of the Right value for b
+     * @param <Z>       the type of the result value
+     * @param a         the AsyncEither for value a
+     * @param b         the AsyncEither for value b
+     * @param transform the function to apply to the values if all Either instances are Right
+     * @return an AsyncEither containing the accumulated Left values or the result of applying the transform function
+     */
+    public static <R, A, B, Z> AsyncEither<NonEmptyList<R>, Z> zipOrAccumulate(
+            final AsyncEither<R, A> a,
+            final AsyncEither<R, B> b,
+            final Function2<A, B, Z> transform
+    )
+    {
+        Objects.requireNonNull(transform, "transform is null");
+        return new AsyncEither<>(a.future.thenCombineAsync(b.future,
+                (aa, bb) -> Either.zipOrAccumulate(aa, bb, transform), a.executor), a.executor, a.continuationDeadline());
+    }
+
+    /**
+     * Zips or accumulates the values of three AsyncEither once all are available, without blocking.
+     * See {@link Either#zipOrAccumulate(Either, Either, Either, Function3)}.
+     * The transform function runs on the executor of {@code a}.
+     *
+     * @param <R>       the type of the Left value
+     * @param <A>       the type of the Right value for a
+     * @param <B>       the type of the Right value for b
+     * @param <C>       the type of the Right value for c
+     * @param <Z>       the type of the result value
+     * @param a         the AsyncEither for value a
+     * @param b         the AsyncEither for value b
+     * @param c         the AsyncEither for value c
+     * @param transform the function to apply to the values if all Either instances are Right
+     * @return an AsyncEither containing the accumulated Left values or the result of applying the transform function
+     */
+    public static <R, A, B, C, Z> AsyncEither<NonEmptyList<R>, Z> zipOrAccumulate(
+            final AsyncEither<R, A> a,
+            final AsyncEither<R, B> b,
+            final AsyncEither<R, C> c,
+            final Function3<A, B, C, Z> transform
+    )
+    {
+        Objects.requireNonNull(transform, "transform is null");
+        return new AsyncEither<>(CompletableFuture.allOf(a.future, b.future, c.future).thenApplyAsync(
+                ignored -> Either.zipOrAccumulate(a.future.join(), b.future.join(), c.future.join(), transform), a.executor), a.executor, a.continuationDeadline());
+    }
+
+    /**
+     * Zips or accumulates the values of four AsyncEither once all are available, without blocking.
+     * See {@link Either#zipOrAccumulate(Either, Either, Either, Either, Function4)}.
+     * The transform function runs on the executor of {@code a}.
+     *
+     * @param <R>       the type of the Left value
+     * @param <A>       the type of the Right value for a
+     * @param <B>       the type of the Right value for b
+     * @param <C>       the type of the Right value for c
+     * @param <D>       the type of the Right value for d
+     * @param <Z>       the type of the result value
+     * @param a         the AsyncEither for value a
+     * @param b         the AsyncEither for value b
+     * @param c         the AsyncEither for value c
+     * @param d         the AsyncEither for value d
+     * @param transform the function to apply to the values if all Either instances are Right
+     * @return an AsyncEither containing the accumulated Left values or the result of applying the transform function
+     */
+    public static <R, A, B, C, D, Z> AsyncEither<NonEmptyList<R>, Z> zipOrAccumulate(
+            final AsyncEither<R, A> a,
+            final AsyncEither<R, B> b,
+            final AsyncEither<R, C> c,
+            final AsyncEither<R, D> d,
+            final Function4<A, B, C, D, Z> transform
+    )
+    {
+        Objects.requireNonNull(transform, "transform is null");
+        return new AsyncEither<>(CompletableFuture.allOf(a.future, b.future, c.future, d.future).thenApplyAsync(
+                ignored -> Either.zipOrAccumulate(a.future.join(), b.future.join(), c.future.join(), d.future.join(), transform), a.executor), a.executor, a.continuationDeadline());
+    }
+
+    /**
+     * Returns the deadline of a mapping function: the earlier of the deadline of this AsyncEither and the one bound
+     * to the thread chaining the function.
+     *
+     * @return the deadline of the mapping function, or null if there is none
+     */
+    private Deadline continuationDeadline()
+    {
+        return Deadline.earliest(deadline, Deadline.captured());
+    }
+
+    /**
+     * Fails a mapping function skipped because its deadline expired.
+     *
+     * @param <T> the type of the skipped result
+     * @return never returns
+     * @throws CompletionException holding a DeadlineExceededException
+     */
+    private static <T> T exceeded()
+    {
+        throw new CompletionException(Deadline.exceeded());
+    }
+
+    @Override
+    public String toString()
+    {
+        return future.isDone() && !future.isCompletedExceptionally() ? "AsyncEither(" + future.join() + ")" : "AsyncEither(?)";
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2026 Baptiste MORIN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.morinb.func;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * A lazily evaluated value computed asynchronously, whose concurrent callers share the same in-flight computation.
+ * <p>
+ * Created by {@link Lazy#async(Supplier, Executor)}. The first call to {@link #get()} starts the computation on the
+ * executor; the calls made before it completes join it without blocking. A successful result is memoized, while a
+ * failed computation is forgotten so that the next call starts a new one.
+ *
+ * @param <T> the type of the value
+ */
+public final class AsyncLazy<T>
+{
+    private final Supplier<? extends T> supplier;
+    private final Executor executor;
+    private final AtomicReference<CompletableFuture<T>> current = new AtomicReference<>();
+
+    /**
+     * Creates an AsyncLazy.
+     *
+     * @param supplier the supplier of the value
+     * @param executor the executor running the supplier
+     */
+    AsyncLazy(final Supplier<? extends T> supplier, final Executor executor)
+    {
+        this.supplier = supplier;
+        this.executor = executor;
+    }
+
+    /**
+     * Returns a future of the value, starting its computation unless it is completed or in flight.
+     * The returned future is a copy: completing or cancelling it does not affect the memoized computation.
+     *
+     * @return a future completing with the value, or exceptionally with the failure of the supplier
+     */
+    public CompletableFuture<T> get()
+    {
+        while (true)
+        {
+            final var future = current.get();
+            if (future != null)
+            {
+                if (!future.isCompletedExceptionally())
+                {
+                    return future.copy();
+                }
+                current.compareAndSet(future, null);
+            }
+            else
+            {
+                final var promise = new CompletableFuture<T>();
+                if (current.compareAndSet(null, promise))
+                {
+                    start(promise);
+                    return promise.copy();
+                }
+            }
+        }
+    }
+
+    /**
+     * Checks if the value has been computed successfully.
+     *
+     * @return true if the value is available, false otherwise
+     */
+    public boolean isEvaluated()
+    {
+        final var future = current.get();
+        return future != null && future.isDone() && !future.isCompletedExceptionally();
+    }
+
+    /**
+     * Runs the supplier on the executor and completes the given promise with its result.
+     *
+     * @param promise the promise to complete
+     */
+    private void start(final CompletableFuture<T> promise)
+    {
+        final Runnable task = () ->
+        {
+            try
+            {
+                promise.complete(supplier.get());
+            } catch (final RuntimeException | Error e)
+            {
+                current.compareAndSet(promise, null);
+                promise.completeExceptionally(e);
+            }
+        };
+        try
+        {
+            executor.execute(Deadline.propagate(task));
+        } catch (final RuntimeException e)
+        {
+            current.compareAndSet(promise, null);
+            promise.completeExceptionally(e);
+        }
+    }
+
+    @Override
+    public String toString()
+    {
+        final var future = current.get();
+        final var evaluated = future != null && future.isDone() && !future.isCompletedExceptionally();
+        return "AsyncLazy(" + (evaluated ? future.join() : "?") + ")";
+    }
+}
@@ -50,4 +50,33 @@ public interface CheckedFunction0<R>
         Objects.requireNonNull(after, "after is null");
         return () -> after.apply(apply());
     }
+
+    /**
+     * Returns a memoizing version of this function, caching its result in a single entry cache.
+     *
+     * @return a memoizing version of this function
+     * @see #memoized(MemoCache)
+     */
+    default CheckedFunction0<R> memoized()
+    {
+        return memoized(MemoCache.lru(1));
+    }
+
+    /**
+     * Returns a memoizing version of this function, caching its results in the given cache.
+     * Concurrent calls with equal parameters share a single evaluation.
+     * The keys include this function, so that the cache can be shared with other functions.
+     * A failing call is not cached: the exception is rethrown to the caller and to the concurrent callers
+     * which waited for it, and the next call evaluates this function again.
+     *
+     * @param cache the cache of the results
+     * @return a memoizing version of this function
+     * @throws NullPointerException if cache is null
+     */
+    default CheckedFunction0<R> memoized(final MemoCache<R> cache)
+    {
+        Objects.requireNonNull(cache, "cache is null");
+        final var key = MemoCache.key(this);
+        return () -> cache.getChecked(key, () -> apply());
+    }
 }
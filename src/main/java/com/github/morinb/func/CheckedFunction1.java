@@ -64,4 +64,33 @@ public interface CheckedFunction1<T1, R>
     {
         return this;
     }
+
+    /**
+     * Returns a memoizing version of this function, caching up to {@value MemoCache#DEFAULT_MAXIMUM_SIZE} results in
+     * a least recently used cache.
+     *
+     * @return a memoizing version of this function
+     * @see #memoized(MemoCache)
+     */
+    default CheckedFunction1<T1, R> memoized()
+    {
+        return memoized(MemoCache.lru(MemoCache.DEFAULT_MAXIMUM_SIZE));
+    }
+
+    /**
+     * Returns a memoizing version of this function, caching its results in the given cache keyed by its parameter.
+     * Concurrent calls with equal parameters share a single evaluation.
+     * The keys include this function, so that the cache can be shared with other functions.
+     * A failing call is not cached: the exception is rethrown to the caller and to the concurrent callers
+     * which waited for it, and the next call evaluates this function again.
+     *
+     * @param cache the cache of the results
+     * @return a memoizing version of this function
+     * @throws NullPointerException if cache is null
+     */
+    default CheckedFunction1<T1, R> memoized(final MemoCache<R> cache)
+    {
+        Objects.requireNonNull(cache, "cache is null");
+        return (T1 param1) -> cache.getChecked(MemoCache.key(this, param1), () -> apply(param1));
+    }
 }
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2026 Baptiste MORIN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.morinb.func;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Reads and writes values of a given type directly from and to a {@link ByteBuffer}.
+ * <p>
+ * Codecs of the library types are created by {@link Codecs} from the codecs of their elements. Encoding writes at
+ * the current position of the buffer and advances it; {@link #sizeOf(Object)} gives the exact number of bytes
+ * written, so that a buffer can be allocated once.
+ *
+ * @param <T> the type of the values
+ */
+public interface Codec<T>
+{
+    /**
+     * Returns the number of bytes written when encoding the given value.
+     *
+     * @param value the value to measure
+     * @return the encoded size of the value, in bytes
+     */
+    int sizeOf(T value);
+
+    /**
+     * Writes the given value at the current position of the buffer.
+     *
+     * @param value  the value to write
+     * @param buffer the buffer to write into
+     * @throws java.nio.BufferOverflowException if the buffer has not enough remaining bytes
+     */
+    void encode(T value, ByteBuffer buffer);
+
+    /**
+     * Reads a value at the current position of the buffer.
+     *
+     * @param buffer the buffer to read from
+     * @return the value read
+     * @throws java.nio.BufferUnderflowException if the buffer has not enough remaining bytes
+     * @throws IllegalArgumentException          if the bytes do not encode a valid value
+     */
+    T decode(ByteBuffer buffer);
+
+    /**
+     * Returns the minimum number of bytes written when encoding a value. The decoders of collections use it to reject
+     * a size the remaining bytes cannot hold before allocating anything.
+     * <p>
+     * Defaults to 1: a codec which writes no byte for some values, such as the codec of a unit type, must return 0.
+     *
+     * @return the minimum encoded size of a value, in bytes
+     */
+    default int minSize()
+    {
+        return 1;
+    }
+
+    /**
+     * Encodes the given value into a new heap buffer, flipped for reading.
+     *
+     * @param value the value to encode
+     * @return a buffer holding exactly the encoded value
+     */
+    default ByteBuffer encode(final T value)
+    {
+        final var buffer = ByteBuffer.allocate(sizeOf(value));
+        encode(value, buffer);
+        return buffer.flip();
+    }
+}
@@ -0,0 +1,776 @@
+/*
+ * Copyright 2026 Baptiste MORIN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.morinb.func;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Objects;
+
+/**
+ * Factory of the {@link Codec} of the library types and of common element types.
+ * <p>
+ * The encoding is compact: alternatives are written as a one byte tag, lengths and sizes as unsigned variable-length
+ * integers, and strings as UTF-8. A Failure is written as the class name and message of its cause, and is decoded as
+ * a Failure holding a {@link StacklessException} describing the original cause.
+ */
+public final class Codecs
+{
+    private static final byte ABSENT = 0;
+    private static final byte PRESENT = 1;
+
+    private static final Codec<Integer> INTS = new Codec<>()
+    {
+        @Override
+        public int minSize()
+        {
+            return Integer.BYTES;
+        }
+
+        @Override
+        public int sizeOf(final Integer value)
+        {
+            return Integer.BYTES;
+        }
+
+        @Override
+        public void encode(final Integer value, final ByteBuffer buffer)
+        {
+            buffer.putInt(value);
+        }
+
+        @Override
+        public Integer decode(final ByteBuffer buffer)
+        {
+            return buffer.getInt();
+        }
+    };
+
+    private static final Codec<Long> LONGS = new Codec<>()
+    {
+        @Override
+        public int minSize()
+        {
+            return Long.BYTES;
+        }
+
+        @Override
+        public int sizeOf(final Long value)
+        {
+            return Long.BYTES;
+        }
+
+        @Override
+        public void encode(final Long value, final ByteBuffer buffer)
+        {
+            buffer.putLong(value);
+        }
+
+        @Override
+        public Long decode(final ByteBuffer buffer)
+        {
+            return buffer.getLong();
+        }
+    };
+
+    private static final Codec<Double> DOUBLES = new Codec<>()
+    {
+        @Override
+        public int minSize()
+        {
+            return Double.BYTES;
+        }
+
+        @Override
+        public int sizeOf(final Double value)
+        {
+            return Double.BYTES;
+        }
+
+        @Override
+        public void encode(final Double value, final ByteBuffer buffer)
+        {
+            buffer.putDouble(value);
+        }
+
+        @Override
+        public Double decode(final ByteBuffer buffer)
+        {
+            return buffer.getDouble();
+        }
+    };
+
+    private static final Codec<Boolean> BOOLEANS = new Codec<>()
+    {
+        @Override
+        public int sizeOf(final Boolean value)
+        {
+            return 1;
+        }
+
+        @Override
+        public void encode(final Boolean value, final ByteBuffer buffer)
+        {
+            buffer.put(value ? PRESENT : ABSENT);
+        }
+
+        @Override
+        public Boolean decode(final ByteBuffer buffer)
+        {
+            return readTag(buffer);
+        }
+    };
+
+    private static final Codec<String> STRINGS = new Codec<>()
+    {
+        @Override
+        public int sizeOf(final String value)
+        {
+            final var length = utf8Length(value);
+            return varIntSize(length) + length;
+        }
+
+        @Override
+        public void encode(final String value, final ByteBuffer buffer)
+        {
+            putVarInt(utf8Length(value), buffer);
+            putUtf8(value, buffer);
+        }
+
+        @Override
+        public String decode(final ByteBuffer buffer)
+        {
+            final var length = getVarInt(buffer);
+            if (length > buffer.remaining())
+            {
+                throw new IllegalArgumentException("String length " + length + " exceeds the remaining bytes");
+            }
+            final var position = buffer.position();
+            final String value = buffer.hasArray()
+                    ? new String(buffer.array(), buffer.arrayOffset() + position, length, StandardCharsets.UTF_8)
+                    : StandardCharsets.UTF_8.decode(buffer.slice(position, length)).toString();
+            buffer.position(position + length);
+            return value;
+        }
+    };
+
+    private Codecs()
+    {
+    }
+
+    /**
+     * Returns a codec writing integers on four bytes. The codec does not accept null.
+     *
+     * @return a codec of integers
+     */
+    public static Codec<Integer> ints()
+    {
+        return INTS;
+    }
+
+    /**
+     * Returns a codec writing longs on eight bytes. The codec does not accept null.
+     *
+     * @return a codec of longs
+     */
+    public static Codec<Long> longs()
+    {
+        return LONGS;
+    }
+
+    /**
+     * Returns a codec writing doubles on eight bytes. The codec does not accept null.
+     *
+     * @return a codec of doubles
+     */
+    public static Codec<Double> doubles()
+    {
+        return DOUBLES;
+    }
+
+    /**
+     * Returns a codec writing booleans on one byte. The codec does not accept null.
+     *
+     * @return a codec of booleans
+     */
+    public static Codec<Boolean> booleans()
+    {
+        return BOOLEANS;
+    }
+
+    /**
+     * Returns a codec writing strings as their UTF-8 length followed by their UTF-8 bytes. The codec does not accept
+     * null.
+     *
+     * @return a codec of strings
+     */
+    public static Codec<String> strings()
+    {
+        return STRINGS;
+    }
+
+    /**
+     * Returns a codec accepting null, written as a one byte tag followed by the value, if any.
+     *
+     * @param codec the codec of the non-null values
+     * @param <T>   the type of the values
+     * @return a codec accepting null
+     * @throws NullPointerException if codec is null
+     */
+    public static <T> Codec<T> nullable(final Codec<T> codec)
+    {
+        Objects.requireNonNull(codec, "codec is null");
+        return new Codec<>()
+        {
+            @Override
+            public int sizeOf(final T value)
+            {
+                return value == null ? 1 : 1 + codec.sizeOf(value);
+            }
+
+            @Override
+            public void encode(final T value, final ByteBuffer buffer)
+            {
+                if (value == null)
+                {
+                    buffer.put(ABSENT);
+                }
+                else
+                {
+                    buffer.put(PRESENT);
+                    codec.encode(value, buffer);
+                }
+            }
+
+            @Override
+            public T decode(final ByteBuffer buffer)
+            {
+                return readTag(buffer) ? codec.decode(buffer) : null;
+            }
+        };
+    }
+
+    /**
+     * Returns a codec of Option.
+     *
+     * @param codec the codec of the value
+     * @param <T>   the type of the value
+     * @return a codec of Option
+     * @throws NullPointerException if codec is null
+     */
+    public static <T> Codec<Option<T>> option(final Codec<T> codec)
+    {
+        Objects.requireNonNull(codec, "codec is null");
+        return new Codec<>()
+        {
+            @Override
+            public int sizeOf(final Option<T> value)
+            {
+                return value.isNone() ? 1 : 1 + codec.sizeOf(value.getValue());
+            }
+
+            @Override
+            public void encode(final Option<T> value, final ByteBuffer buffer)
+            {
+                if (value.isNone())
+                {
+                    buffer.put(ABSENT);
+                }
+                else
+                {
+                    buffer.put(PRESENT);
+                    codec.encode(value.getValue(), buffer);
+                }
+            }
+
+            @Override
+            public Option<T> decode(final ByteBuffer buffer)
+            {
+                return readTag(buffer) ? Option.some(codec.decode(buffer)) : Option.none();
+            }
+        };
+    }
+
+    /**
+     * Returns a codec of Either.
+     *
+     * @param leftCodec  the codec of the left value
+     * @param rightCodec the codec of the right value
+     * @param <L>        the type of the left value
+     * @param <R>        the type of the right value
+     * @return a codec of Either
+     * @throws NullPointerException if leftCodec or rightCodec is null
+     */
+    public static <L, R> Codec<Either<L, R>> either(final Codec<L> leftCodec, final Codec<R> rightCodec)
+    {
+        Objects.requireNonNull(leftCodec, "leftCodec is null");
+        Objects.requireNonNull(rightCodec, "rightCodec is null");
+        return new Codec<>()
+        {
+            @Override
+            public int sizeOf(final Either<L, R> value)
+            {
+                return 1 + (value.isRight() ? rightCodec.sizeOf(value.get()) : leftCodec.sizeOf(value.getLeft()));
+            }
+
+            @Override
+            public void encode(final Either<L, R> value, final ByteBuffer buffer)
+            {
+                if (value.isRight())
+                {
+                    buffer.put(PRESENT);
+                    rightCodec.encode(value.get(), buffer);
+                }
+                else
+                {
+                    buffer.put(ABSENT);
+                    leftCodec.encode(value.getLeft(), buffer);
+                }
+            }
+
+            @Override
+            public Either<L, R> decode(final ByteBuffer buffer)
+            {
+                return readTag(buffer) ? Either.right(rightCodec.decode(buffer)) : Either.left(leftCodec.decode(buffer));
+            }
+        };
+    }
+
+    /**
+     * Returns a codec of Try. The cause of a Failure is written as its class name and message, and decoded as a
+     * {@link StacklessException} whose message is {@code className: message}.
+     *
+     * @param codec the codec of the value
+     * @param <T>   the type of the value
+     * @return a codec of Try
+     * @throws NullPointerException if codec is null
+     */
+    public static <T> Codec<Try<T>> tryOf(final Codec<T> codec)
+    {
+        Objects.requireNonNull(codec, "codec is null");
+        final Codec<String> messages = nullable(STRINGS);
+        return new Codec<>()
+        {
+            @Override
+            public int sizeOf(final Try<T> value)
+            {
+                if (value.isSuccess())
+                {
+                    return 1 + codec.sizeOf(value.get());
+                }
+                final var cause = value.getCause();
+                return 1 + STRINGS.sizeOf(cause.getClass().getName()) + messages.sizeOf(cause.getMessage());
+            }
+
+            @Override
+            public void encode(final Try<T> value, final ByteBuffer buffer)
+            {
+                if (value.isSuccess())
+                {
+                    buffer.put(PRESENT);
+                    codec.encode(value.get(), buffer);
+                }
+                else
+                {
+                    buffer.put(ABSENT);
+                    STRINGS.encode(value.getCause().getClass().getName(), buffer);
+                    messages.encode(value.getCause().getMessage(), buffer);
+                }
+            }
+
+            @Override
+            public Try<T> decode(final ByteBuffer buffer)
+            {
+                if (readTag(buffer))
+                {
+                    return Try.success(codec.decode(buffer));
+                }
+                final var className = STRINGS.decode(buffer);
+                final var message = messages.decode(buffer);
+                return Try.stacklessFailure(message == null ? className : className + ": " + message);
+            }
+        };
+    }
+
+    /**
+     * Returns a codec of Lazy. Encoding evaluates the Lazy; decoding returns an evaluated Lazy.
+     *
+     * @param codec the codec of the value
+     * @param <T>   the type of the value
+     * @return a codec of Lazy
+     * @throws NullPointerException if codec is null
+     */
+    public static <T> Codec<Lazy<T>> lazy(final Codec<T> codec)
+    {
+        Objects.requireNonNull(codec, "codec is null");
+        return new Codec<>()
+        {
+            @Override
+            public int sizeOf(final Lazy<T> value)
+            {
+                return codec.sizeOf(value.get());
+            }
+
+            @Override
+            public int minSize()
+            {
+                return codec.minSize();
+            }
+
+            @Override
+            public void encode(final Lazy<T> value, final ByteBuffer buffer)
+            {
+                codec.encode(value.get(), buffer);
+            }
+
+            @Override
+            public Lazy<T> decode(final ByteBuffer buffer)
+            {
+                final var value = codec.decode(buffer);
+                final Lazy<T> lazy = Lazy.of(() -> value);
+                lazy.get();
+                return lazy;
+            }
+        };
+    }
+
+    /**
+     * Returns a codec of Pair.
+     *
+     * @param firstCodec  the codec of the first value
+     * @param secondCodec the codec of the second value
+     * @param <T>         the type of the first value
+     * @param <R>         the type of the second value
+     * @return a codec of Pair
+     * @throws NullPointerException if firstCodec or secondCodec is null
+     */
+    public static <T, R> Codec<Pair<T, R>> pair(final Codec<T> firstCodec, final Codec<R> secondCodec)
+    {
+        Objects.requireNonNull(firstCodec, "firstCodec is null");
+        Objects.requireNonNull(secondCodec, "secondCodec is null");
+        return new Codec<>()
+        {
+            @Override
+            public int sizeOf(final Pair<T, R> value)
+            {
+                return firstCodec.sizeOf(value.first()) + secondCodec.sizeOf(value.second());
+            }
+
+            @Override
+            public int minSize()
+            {
+                return firstCodec.minSize() + secondCodec.minSize();
+            }
+
+            @Override
+            public void encode(final Pair<T, R> value, final ByteBuffer buffer)
+            {
+                firstCodec.encode(value.first(), buffer);
+                secondCodec.encode(value.second(), buffer);
+            }
+
+            @Override
+            public Pair<T, R> decode(final ByteBuffer buffer)
+            {
+                final var first = firstCodec.decode(buffer);
+                return new Pair<>(first, secondCodec.decode(buffer));
+            }
+        };
+    }
+
+    /**
+     * Returns a codec of FList, written as its size followed by its elements. Lists are traversed iteratively, so
+     * that long lists do not exhaust the stack.
+     * <p>
+     * Decoding rejects a size the remaining bytes cannot hold, given the {@link Codec#minSize() minimum size} of an
+     * element. Elements of no minimum size are not bounded that way: use {@link #flist(Codec, int)} to bound the
+     * size of the lists read from untrusted input.
+     *
+     * @param codec the codec of the elements
+     * @param <T>   the type of the elements
+     * @return a codec of FList
+     * @throws NullPointerException if codec is null
+     */
+    public static <T> Codec<FList<T>> flist(final Codec<T> codec)
+    {
+        return flist(codec, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Returns a codec of FList rejecting, when decoding, the lists holding more than the given number of elements.
+     * See {@link #flist(Codec)}.
+     *
+     * @param codec   the codec of the elements
+     * @param maxSize the maximum number of elements of a decoded list
+     * @param <T>     the type of the elements
+     * @return a codec of FList
+     * @throws NullPointerException     if codec is null
+     * @throws IllegalArgumentException if maxSize is negative
+     */
+    public static <T> Codec<FList<T>> flist(final Codec<T> codec, final int maxSize)
+    {
+        Objects.requireNonNull(codec, "codec is null");
+        if (maxSize < 0)
+        {
+            throw new IllegalArgumentException("maxSize must be positive");
+        }
+        return new Codec<>()
+        {
+            @Override
+            public int sizeOf(final FList<T> value)
+            {
+                var count = 0;
+                var size = 0;
+                for (var list = value; !list.isEmpty(); list = list.tail())
+                {
+                    count++;
+                    size += codec.sizeOf(list.head());
+                }
+                return varIntSize(count) + size;
+            }
+
+            @Override
+            public void encode(final FList<T> value, final ByteBuffer buffer)
+            {
+                var count = 0;
+                for (var list = value; !list.isEmpty(); list = list.tail())
+                {
+                    count++;
+                }
+                putVarInt(count, buffer);
+                for (var list = value; !list.isEmpty(); list = list.tail())
+                {
+                    codec.encode(list.head(), buffer);
+                }
+            }
+
+            @Override
+            public FList<T> decode(final ByteBuffer buffer)
+            {
+                final var count = getVarInt(buffer);
+                final var minSize = codec.minSize();
+                if (minSize > 0 && count > buffer.remaining() / minSize)
+                {
+                    throw new IllegalArgumentException("List size " + count + " exceeds the remaining bytes");
+                }
+                if (count > maxSize)
+                {
+                    throw new IllegalArgumentException("List size " + count + " exceeds the maximum size " + maxSize);
+                }
+                final var elements = new ArrayList<T>(Math.min(count, buffer.remaining()));
+                for (var i = 0; i < count; i++)
+                {
+                    elements.add(codec.decode(buffer));
+                }
+                var list = FList.<T>empty();
+                for (var i = count - 1; i >= 0; i--)
+                {
+                    list = list.prepend(elements.get(i));
+                }
+                return list;
+            }
+        };
+    }
+
+    /**
+     * Returns a codec of NonEmptyList, written as its head followed by its tail.
+     *
+     * @param codec the codec of the elements
+     * @param <T>   the type of the elements
+     * @return a codec of NonEmptyList
+     * @throws NullPointerException if codec is null
+     */
+    public static <T> Codec<NonEmptyList<T>> nonEmptyList(final Codec<T> codec)
+    {
+        final Codec<FList<T>> tails = flist(codec);
+        return new Codec<>()
+        {
+            @Override
+            public int sizeOf(final NonEmptyList<T> value)
+            {
+                return codec.sizeOf(value.head()) + tails.sizeOf(value.tail());
+            }
+
+            @Override
+            public int minSize()
+            {
+                return codec.minSize() + tails.minSize();
+            }
+
+            @Override
+            public void encode(final NonEmptyList<T> value, final ByteBuffer buffer)
+            {
+                codec.encode(value.head(), buffer);
+                tails.encode(value.tail(), buffer);
+            }
+
+            @Override
+            public NonEmptyList<T> decode(final ByteBuffer buffer)
+            {
+                final var head = codec.decode(buffer);
+                return new NonEmptyList<>(head, tails.decode(buffer));
+            }
+        };
+    }
+
+    /**
+     * Reads a one byte tag.
+     *
+     * @param buffer the buffer to read from
+     * @return true if the tag is {@link #PRESENT}, false if it is {@link #ABSENT}
+     * @throws IllegalArgumentException if the byte is not a valid tag
+     */
+    private static boolean readTag(final ByteBuffer buffer)
+    {
+        final var tag = buffer.get();
+        if (tag != ABSENT && tag != PRESENT)
+        {
+            throw new IllegalArgumentException("Invalid tag " + tag);
+        }
+        return tag == PRESENT;
+    }
+
+    /**
+     * Returns the number of bytes of the given unsigned integer once encoded on a variable length.
+     *
+     * @param value the non-negative value
+     * @return the encoded size, between 1 and 5
+     */
+    static int varIntSize(final int value)
+    {
+        return (38 - Integer.numberOfLeadingZeros(value | 1)) / 7;
+    }
+
+    /**
+     * Writes a non-negative integer on a variable length, seven bits per byte, least significant group first.
+     *
+     * @param value  the non-negative value
+     * @param buffer the buffer to write into
+     */
+    static void putVarInt(final int value, final ByteBuffer buffer)
+    {
+        var remaining = value;
+        while ((remaining & ~0x7F) != 0)
+        {
+            buffer.put((byte) ((remaining & 0x7F) | 0x80));
+            remaining >>>= 7;
+        }
+        buffer.put((byte) remaining);
+    }
+
+    /**
+     * Reads a non-negative integer written by {@link #putVarInt(int, ByteBuffer)}.
+     *
+     * @param buffer the buffer to read from
+     * @return the value read
+     * @throws IllegalArgumentException if the bytes do not encode a non-negative integer
+     */
+    static int getVarInt(final ByteBuffer buffer)
+    {
+        var value = 0;
+        for (var shift = 0; shift < 35; shift += 7)
+        {
+            final var b = buffer.get();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0)
+            {
+                if (value < 0)
+                {
+                    throw new IllegalArgumentException("Negative length");
+                }
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Malformed variable length integer");
+    }
+
+    /**
+     * Returns the number of bytes of the given string once encoded in UTF-8. An unpaired surrogate counts as the
+     * single replacement byte written by {@link #putUtf8(String, ByteBuffer)}.
+     *
+     * @param value the string to measure
+     * @return the UTF-8 length of the string
+     */
+    private static int utf8Length(final String value)
+    {
+        var length = 0;
+        for (var i = 0; i < value.length(); i++)
+        {
+            final var c = value.charAt(i);
+            if (c < 0x80)
+            {
+                length++;
+            }
+            else if (c < 0x800)
+            {
+                length += 2;
+            }
+            else if (Character.isHighSurrogate(c) && i + 1 < value.length() && Character.isLowSurrogate(value.charAt(i + 1)))
+            {
+                length += 4;
+                i++;
+            }
+            else
+            {
+                length += Character.isSurrogate(c) ? 1 : 3;
+            }
+        }
+        return length;
+    }
+
+    /**
+     * Writes the given string in UTF-8, without intermediate array. An unpaired surrogate is written as {@code ?},
+     * like {@link String#getBytes(java.nio.charset.Charset)} does.
+     *
+     * @param value  the string to write
+     * @param buffer the buffer to write into
+     */
+    private static void putUtf8(final String value, final ByteBuffer buffer)
+    {
+        for (var i = 0; i < value.length(); i++)
+        {
+            final var c = value.charAt(i);
+            if (c < 0x80)
+            {
+                buffer.put((byte) c);
+            }
+            else if (c < 0x800)
+            {
+                buffer.put((byte) (0xC0 | (c >> 6)));
+                buffer.put((byte) (0x80 | (c & 0x3F)));
+            }
+            else if (Character.isHighSurrogate(c) && i + 1 < value.length() && Character.isLowSurrogate(value.charAt(i + 1)))
+            {
+                final var codePoint = Character.toCodePoint(c, value.charAt(++i));
+                buffer.put((byte) (0xF0 | (codePoint >> 18)));
+                buffer.put((byte) (0x80 | ((codePoint >> 12) & 0x3F)));
+                buffer.put((byte) (0x80 | ((codePoint >> 6) & 0x3F)));
+                buffer.put((byte) (0x80 | (codePoint & 0x3F)));
+            }
+            else if (Character.isSurrogate(c))
+            {
+                buffer.put((byte) '?');
+            }
+            else
+            {
+                buffer.put((byte) (0xE0 | (c >> 12)));
+                buffer.put((byte) (0x80 | ((c >> 6) & 0x3F)));
+                buffer.put((byte) (0x80 | (c & 0x3F)));
+            }
+        }
+    }
+}
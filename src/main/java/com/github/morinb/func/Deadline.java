@@ -0,0 +1,343 @@
+/*
+ * Copyright 2026 Baptiste MORIN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.morinb.func;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.BooleanSupplier;
+
+/**
+ * A point in time after which a computation is abandoned.
+ * <p>
+ * A deadline is bound to the current thread while {@link #run(CheckedFunction0)} executes, and is propagated to the
+ * computations started from it by {@link Try#async(CheckedFunction0)},
+ * {@link Try#retryAsync(CheckedFunction0, RetryPolicy)}, {@link Try#traverse(Iterable, CheckedFunction1, int, TraverseMode)}
+ * and {@link AsyncEither#supplyAsync(Function0)}, and is checked again before each {@code map} or {@code flatMap}
+ * continuation of the resulting TryFuture or AsyncEither. A deadline nested in another one never extends it: the
+ * earliest one applies.
+ */
+public final class Deadline
+{
+    private static final ThreadLocal<Deadline> CURRENT = new ThreadLocal<>();
+
+    private final long expiresAt;
+
+    private Deadline(final long expiresAt)
+    {
+        this.expiresAt = expiresAt;
+    }
+
+    /**
+     * Creates a deadline expiring once the given duration has elapsed.
+     *
+     * @param timeout the duration after which the deadline expires
+     * @return a new Deadline
+     * @throws NullPointerException if timeout is null
+     */
+    public static Deadline after(final Duration timeout)
+    {
+        Objects.requireNonNull(timeout, "timeout is null");
+        final var now = System.nanoTime();
+        final long nanos = timeout.compareTo(Duration.ofNanos(Long.MAX_VALUE / 2)) > 0
+                ? Long.MAX_VALUE / 2
+                : Math.max(timeout.toNanos(), 0L);
+        return new Deadline(now + nanos);
+    }
+
+    /**
+     * Returns the deadline bound to the current thread.
+     *
+     * @return the current deadline, or none if the current thread runs without deadline
+     */
+    public static Option<Deadline> current()
+    {
+        return Option.of(CURRENT.get());
+    }
+
+    /**
+     * Returns the time left before this deadline expires.
+     *
+     * @return the remaining time, zero once expired
+     */
+    public Duration remaining()
+    {
+        return Duration.ofNanos(Math.max(expiresAt - System.nanoTime(), 0L));
+    }
+
+    /**
+     * Checks if this deadline has expired.
+     *
+     * @return true if this deadline has expired, false otherwise
+     */
+    public boolean isExpired()
+    {
+        return expiresAt - System.nanoTime() <= 0L;
+    }
+
+    /**
+     * Runs the given supplier on the default executor, bound to this deadline, and waits for its result.
+     * If the deadline expires first, the computation is interrupted and a Failure holding a
+     * {@link DeadlineExceededException} is returned.
+     *
+     * @param supplier the supplier to run
+     * @param <T>      the type of the result
+     * @return the result of the supplier, or a Failure if it threw or did not complete in time
+     * @throws NullPointerException if supplier is null
+     */
+    public <T> Try<T> run(final CheckedFunction0<? extends T> supplier)
+    {
+        Objects.requireNonNull(supplier, "supplier is null");
+        final var deadline = earliest(this);
+        if (deadline.isExpired())
+        {
+            return Try.failure(exceeded());
+        }
+        final var task = new FutureTask<Try<T>>(() -> deadline.bind(() -> Try.of(supplier)));
+        DefaultExecutor.get().execute(task);
+        try
+        {
+            return task.get(deadline.expiresAt - System.nanoTime(), TimeUnit.NANOSECONDS);
+        } catch (final TimeoutException e)
+        {
+            task.cancel(true);
+            return Try.failure(exceeded());
+        } catch (final InterruptedException e)
+        {
+            task.cancel(true);
+            Thread.currentThread().interrupt();
+            return Try.failure(e);
+        } catch (final ExecutionException e)
+        {
+            return Try.failure(e.getCause());
+        }
+    }
+
+    /**
+     * Returns the earlier of the given deadline and the current one.
+     *
+     * @param deadline the deadline to compare to the current one
+     * @return the deadline expiring first
+     */
+    private static Deadline earliest(final Deadline deadline)
+    {
+        return earliest(CURRENT.get(), deadline);
+    }
+
+    /**
+     * Returns the earlier of the given deadlines.
+     *
+     * @param first  a deadline, may be null
+     * @param second another deadline, may be null
+     * @return the deadline expiring first, or null if both are null
+     */
+    static Deadline earliest(final Deadline first, final Deadline second)
+    {
+        if (first == null)
+        {
+            return second;
+        }
+        return second == null || first.expiresAt - second.expiresAt < 0L ? first : second;
+    }
+
+    /**
+     * Returns the deadline bound to the current thread, for the asynchronous types capturing it.
+     *
+     * @return the current deadline, or null if the current thread runs without deadline
+     */
+    static Deadline captured()
+    {
+        return CURRENT.get();
+    }
+
+    /**
+     * Runs a continuation of an asynchronous computation bound to the given deadline, unless it has expired.
+     *
+     * @param deadline     the deadline of the computation, may be null
+     * @param continuation the continuation to run
+     * @param onExpiry     the function computing the result once the deadline has expired
+     * @param <T>          the type of the result
+     * @return the result of the continuation, or of onExpiry if the deadline has expired
+     */
+    static <T> T within(final Deadline deadline, final Function0<T> continuation, final Function0<T> onExpiry)
+    {
+        if (deadline == null)
+        {
+            return continuation.apply();
+        }
+        return deadline.isExpired() ? onExpiry.apply() : deadline.bind(continuation);
+    }
+
+    /**
+     * Runs the given supplier with this deadline bound to the current thread.
+     *
+     * @param supplier the supplier to run
+     * @param <T>      the type of the result
+     * @return the result of the supplier
+     */
+    private <T> T bind(final Function0<T> supplier)
+    {
+        final var previous = CURRENT.get();
+        CURRENT.set(this);
+        try
+        {
+            return supplier.apply();
+        } finally
+        {
+            if (previous == null)
+            {
+                CURRENT.remove();
+            }
+            else
+            {
+                CURRENT.set(previous);
+            }
+        }
+    }
+
+    /**
+     * Returns a runnable running the given one with the current deadline, if any, bound to the thread running it.
+     *
+     * @param runnable the runnable to wrap
+     * @return a runnable propagating the current deadline
+     */
+    static Runnable propagate(final Runnable runnable)
+    {
+        final var current = CURRENT.get();
+        if (current == null)
+        {
+            return runnable;
+        }
+        return () -> current.bind(() ->
+        {
+            runnable.run();
+            return null;
+        });
+    }
+
+    /**
+     * Completes the given promise with a timeout Failure and cancels the given task once the current deadline
+     * expires, if the promise is not completed by then. Does nothing when the current thread runs without deadline.
+     *
+     * @param promise the promise to complete on expiry
+     * @param task    the task to cancel on expiry, may be null
+     * @param <T>     the type of the result
+     */
+    static <T> void cancelOnExpiry(final CompletableFuture<Try<T>> promise, final Future<?> task)
+    {
+        onExpiry(promise, task, () -> promise.complete(Try.failure(exceeded())));
+    }
+
+    /**
+     * Completes the given promise exceptionally with a {@link DeadlineExceededException} and cancels the given task
+     * once the current deadline expires, if the promise is not completed by then. Does nothing when the current
+     * thread runs without deadline.
+     *
+     * @param promise the promise to complete on expiry
+     * @param task    the task to cancel on expiry, may be null
+     */
+    static void failOnExpiry(final CompletableFuture<?> promise, final Future<?> task)
+    {
+        onExpiry(promise, task, () -> promise.completeExceptionally(exceeded()));
+    }
+
+    /**
+     * Schedules the expiry of the given promise at the current deadline. The scheduled expiry is cancelled as soon
+     * as the promise completes, so that neither the promise nor the task are retained until the deadline.
+     *
+     * @param promise the promise to expire
+     * @param task    the task to cancel on expiry, may be null
+     * @param expire  the action completing the promise, returning true if it did
+     */
+    private static void onExpiry(final CompletableFuture<?> promise, final Future<?> task, final BooleanSupplier expire)
+    {
+        final var current = CURRENT.get();
+        if (current == null || promise.isDone())
+        {
+            return;
+        }
+        final var expiry = Scheduler.INSTANCE.schedule(() ->
+        {
+            if (expire.getAsBoolean() && task != null)
+            {
+                task.cancel(true);
+            }
+        }, current.expiresAt - System.nanoTime(), TimeUnit.NANOSECONDS);
+        promise.whenComplete((value, failure) -> expiry.cancel(false));
+    }
+
+    /**
+     * Returns the number of scheduled expiries, of promises not completed yet.
+     *
+     * @return the number of pending expiries
+     */
+    static int pendingExpiries()
+    {
+        return Scheduler.INSTANCE.getQueue().size();
+    }
+
+    /**
+     * Creates the cause of the Failure returned on expiry.
+     *
+     * @return a new DeadlineExceededException
+     */
+    static DeadlineExceededException exceeded()
+    {
+        return new DeadlineExceededException("deadline exceeded");
+    }
+
+    @Override
+    public String toString()
+    {
+        return "Deadline(remaining=" + remaining() + ")";
+    }
+
+    /**
+     * Holds the daemon thread expiring the asynchronous computations, created on first use.
+     */
+    private static final class Scheduler
+    {
+        private static final ScheduledThreadPoolExecutor INSTANCE = create();
+
+        private Scheduler()
+        {
+        }
+
+        /**
+         * Creates the scheduler, removing cancelled expiries from its queue at once.
+         *
+         * @return the scheduler
+         */
+        private static ScheduledThreadPoolExecutor create()
+        {
+            final var scheduler = new ScheduledThreadPoolExecutor(1, runnable ->
+            {
+                final var thread = new Thread(runnable, "func-deadline");
+                thread.setDaemon(true);
+                return thread;
+            });
+            scheduler.setRemoveOnCancelPolicy(true);
+            return scheduler;
+        }
+    }
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright 2026 Baptiste MORIN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.morinb.func;
+
+import java.io.Serial;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Signals that a computation did not complete before its {@link Deadline}.
+ */
+public class DeadlineExceededException extends TimeoutException
+{
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Creates a DeadlineExceededException.
+     *
+     * @param message the detail message
+     */
+    public DeadlineExceededException(final String message)
+    {
+        super(message);
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2026 Baptiste MORIN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.morinb.func;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Holds the executor used by the asynchronous combinators when none is given.
+ * <p>
+ * On runtimes providing virtual threads, a virtual-thread-per-task executor is used, so that blocking suppliers do
+ * not hold a platform thread each. Otherwise, a cached pool of daemon platform threads is used.
+ */
+final class DefaultExecutor
+{
+    private static final ExecutorService INSTANCE = create();
+
+    private DefaultExecutor()
+    {
+    }
+
+    /**
+     * Returns the default executor.
+     *
+     * @return the default executor
+     */
+    static Executor get()
+    {
+        return INSTANCE;
+    }
+
+    /**
+     * Creates the default executor, looking up the virtual thread executor reflectively as it is not available
+     * on every supported runtime.
+     *
+     * @return the default executor
+     */
+    private static ExecutorService create()
+    {
+        try
+        {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (final ReflectiveOperationException | RuntimeException e)
+        {
+            return Executors.newCachedThreadPool(new DaemonThreadFactory());
+        }
+    }
+
+    /**
+     * Creates daemon threads, so that pending asynchronous computations never prevent the JVM from exiting.
+     */
+    private static final class DaemonThreadFactory implements ThreadFactory
+    {
+        private final AtomicInteger counter = new AtomicInteger();
+
+        @Override
+        public Thread newThread(final Runnable runnable)
+        {
+            final var thread = new Thread(runnable, "func-async-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -18,10 +18,15 @@ package com.github.morinb.func;
 
 
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
 import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 /**
  * An interface representing either a left or a right value.
@@ -41,11 +46,11 @@ public sealed interface Either<L, R>
      * @param <L>   the type of the left value
      * @param <R>   the type of the right value
      * @param value the value for the right side of the instance
-     * @return a new instance of Right with the specified value
+     * @return an instance of Right with the specified value, shared for {@code null}, booleans and small integers
      */
     static <L, R> Right<L, R> right(final R value)
     {
-        return new Right<>(value);
+        return Right.of(value);
     }
 
     /**
@@ -54,23 +59,23 @@ public sealed interface Either<L, R>
      * @param <L>   the type of the left value
      * @param <R>   the type of the right value
      * @param value the value for the left side of the instance
-     * @return a new instance of Left with the specified value
+     * @return an instance of Left with the specified value, shared for {@code null}
      */
     static <L, R> Left<L, R> left(final L value)
     {
-        return new Left<>(value);
+        return Left.of(value);
     }
 
     /**
-     * Performs a no-operation and returns a new Either object with a Right value of null.
+     * Performs a no-operation and returns the shared Either object with a Right value of null.
      *
      * @param <L> The type of the Left value in the Either object.
      * @param <R> The type of the Right value in the Either object.
-     * @return A new Either object with a Right value of null.
+     * @return The shared Either object with a Right value of null.
      */
     static <L, R> Either<L, R> noop()
     {
-        return new Right<>(null);
+        return Right.of(null);
     }
 
     /**
@@ -78,11 +83,11 @@ public sealed interface Either<L, R>
      *
      * @param <L> The type of the left value.
      * @param <R> The type of the right value.
-     * @return An empty Either object of type Either&lt;L, R&gt;.
+     * @return The shared empty Either object of type Either&lt;L, R&gt;.
      */
     static <L, R> Either<L, R> empty()
     {
-        return new Left<>(null);
+        return Left.of(null);
     }
 
     /**
@@ -433,6 +438,474 @@ public sealed interface Either<L, R>
         }
     }
 
+    /**
+     * Zips or accumulates the values from multiple Either instances under the given accumulation policy.
+     * If all input Either instances are Right, the transform function is applied to the values and the result
+     * is wrapped in a Right. Otherwise, the Left values are collected as described by the policy.
+     *
+     * @param <R>       the type of the Left value
+     * @param <A>       the type of the Right value for Either a
+     * @param <B>       the type of the Right value for Either b
+     * @param <Z>       the type of the result value
+     * @param policy    the policy describing how Left values are accumulated
+     * @param a         the Either for value a
+     * @param b         the Either for value b
+     * @param transform the function to apply to the values if all Either instances are Right
+     * @return an Either containing the accumulated Left values or the result of applying the transform function
+     */
+    static <R, A, B, Z> Either<AccumulatedErrors<R>, Z> zipOrAccumulate(
+            final AccumulationPolicy policy,
+            final Either<R, A> a,
+            final Either<R, B> b,
+            final Function2<A, B, Z> transform
+    )
+    {
+        return zipOrAccumulate(
+                policy, a, b, Either.noop(), Either.noop(), Either.noop(), Either.noop(), Either.noop(), Either.noop(), Either.noop(), Either.noop(),
+                (aa, bb, cc, dd, ee, ff, gg, hh, ii, jj) -> transform.apply(aa, bb));
+    }
+
+    /**
+     * Zips or accumulates the values from multiple Either instances under the given accumulation policy.
+     * If all input Either instances are Right, the transform function is applied to the values and the result
+     * is wrapped in a Right. Otherwise, the Left values are collected as described by the policy.
+     *
+     * @param <R>       the type of the Left value
+     * @param <A>       the type of the Right value for Either a
+     * @param <B>       the type of the Right value for Either b
+     * @param <C>       the type of the Right value for Either c
+     * @param <Z>       the type of the result value
+     * @param policy    the policy describing how Left values are accumulated
+     * @param a         the Either for value a
+     * @param b         the Either for value b
+     * @param c         the Either for value c
+     * @param transform the function to apply to the values if all Either instances are Right
+     * @return an Either containing the accumulated Left values or the result of applying the transform function
+     */
+    static <R, A, B, C, Z> Either<AccumulatedErrors<R>, Z> zipOrAccumulate(
+            final AccumulationPolicy policy,
+            final Either<R, A> a,
+            final Either<R, B> b,
+            final Either<R, C> c,
+            final Function3<A, B, C, Z> transform
+    )
+    {
+        return zipOrAccumulate(
+                policy, a, b, c, Either.noop(), Either.noop(), Either.noop(), Either.noop(), Either.noop(), Either.noop(), Either.noop(),
+                (aa, bb, cc, dd, ee, ff, gg, hh, ii, jj) -> transform.apply(aa, bb, cc));
+    }
+
+    /**
+     * Zips or accumulates the values from multiple Either instances under the given accumulation policy.
+     * If all input Either instances are Right, the transform function is applied to the values and the result
+     * is wrapped in a Right. Otherwise, the Left values are collected as described by the policy.
+     *
+     * @param <R>       the type of the Left value
+     * @param <A>       the type of the Right value for Either a
+     * @param <B>       the type of the Right value for Either b
+     * @param <C>       the type of the Right value for Either c
+     * @param <D>       the type of the Right value for Either d
+     * @param <Z>       the type of the result value
+     * @param policy    the policy describing how Left values are accumulated
+     * @param a         the Either for value a
+     * @param b         the Either for value b
+     * @param c         the Either for value c
+     * @param d         the Either for value d
+     * @param transform the function to apply to the values if all Either instances are Right
+     * @return an Either containing the accumulated Left values or the result of applying the transform function
+     */
+    static <R, A, B, C, D, Z> Either<AccumulatedErrors<R>, Z> zipOrAccumulate(
+            final AccumulationPolicy policy,
+            final Either<R, A> a,
+            final Either<R, B> b,
+            final Either<R, C> c,
+            final Either<R, D> d,
+            final Function4<A, B, C, D, Z> transform
+    )
+    {
+        return zipOrAccumulate(
+                policy, a, b, c, d, Either.noop(), Either.noop(), Either.noop(), Either.noop(), Either.noop(), Either.noop(),
+                (aa, bb, cc, dd, ee, ff, gg, hh, ii, jj) -> transform.apply(aa, bb, cc, dd));
+    }
+
+    /**
+     * Zips or accumulates the values from multiple Either instances under the given accumulation policy.
+     * If all input Either instances are Right, the transform function is applied to the values and the result
+     * is wrapped in a Right. Otherwise, the Left values are collected as described by the policy.
+     *
+     * @param <R>       the type of the Left value
+     * @param <A>       the type of the Right value for Either a
+     * @param <B>       the type of the Right value for Either b
+     * @param <C>       the type of the Right value for Either c
+     * @param <D>       the type of the Right value for Either d
+     * @param <E>       the type of the Right value for Either e
+     * @param <Z>       the type of the result value
+     * @param policy    the policy describing how Left values are accumulated
+     * @param a         the Either for value a
+     * @param b         the Either for value b
+     * @param c         the Either for value c
+     * @param d         the Either for value d
+     * @param e         the Either for value e
+     * @param transform the function to apply to the values if all Either instances are Right
+     * @return an Either containing the accumulated Left values or the result of applying the transform function
+     */
+    static <R, A, B, C, D, E, Z> Either<AccumulatedErrors<R>, Z> zipOrAccumulate(
+            final AccumulationPolicy policy,
+            final Either<R, A> a,
+            final Either<R, B> b,
+            final Either<R, C> c,
+            final Either<R, D> d,
+            final Either<R, E> e,
+            final Function5<A, B, C, D, E, Z> transform
+    )
+    {
+        return zipOrAccumulate(
+                policy, a, b, c, d, e, Either.noop(), Either.noop(), Either.noop(), Either.noop(), Either.noop(),
+                (aa, bb, cc, dd, ee, ff, gg, hh, ii, jj) -> transform.apply(aa, bb, cc, dd, ee));
+    }
+
+    /**
+     * Zips or accumulates the values from multiple Either instances under the given accumulation policy.
+     * If all input Either instances are Right, the transform function is applied to the values and the result
+     * is wrapped in a Right. Otherwise, the Left values are collected as described by the policy.
+     *
+     * @param <R>       the type of the Left value
+     * @param <A>       the type of the Right value for Either a
+     * @param <B>       the type of the Right value for Either b
+     * @param <C>       the type of the Right value for Either c
+     * @param <D>       the type of the Right value for Either d
+     * @param <E>       the type of the Right value for Either e
+     * @param <F>       the type of the Right value for Either f
+     * @param <Z>       the type of the result value
+     * @param policy    the policy describing how Left values are accumulated
+     * @param a         the Either for value a
+     * @param b         the Either for value b
+     * @param c         the Either for value c
+     * @param d         the Either for value d
+     * @param e         the Either for value e
+     * @param f         the Either for value f
+     * @param transform the function to apply to the values if all Either instances are Right
+     * @return an Either containing the accumulated Left values or the result of applying the transform function
+     */
+    @SuppressWarnings("squid:S107")
+    static <R, A, B, C, D, E, F, Z> Either<AccumulatedErrors<R>, Z> zipOrAccumulate(
+            final AccumulationPolicy policy,
+            final Either<R, A> a,
+            final Either<R, B> b,
+            final Either<R, C> c,
+            final Either<R, D> d,
+            final Either<R, E> e,
+            final Either<R, F> f,
+            final Function6<A, B, C, D, E, F, Z> transform
+    )
+    {
+        return zipOrAccumulate(
+                policy, a, b, c, d, e, f, Either.noop(), Either.noop(), Either.noop(), Either.noop(),
+                (aa, bb, cc, dd, ee, ff, gg, hh, ii, jj) -> transform.apply(aa, bb, cc, dd, ee, ff));
+    }
+
+    /**
+     * Zips or accumulates the values from multiple Either instances under the given accumulation policy.
+     * If all input Either instances are Right, the transform function is applied to the values and the result
+     * is wrapped in a Right. Otherwise, the Left values are collected as described by the policy.
+     *
+     * @param <R>       the type of the Left value
+     * @param <A>       the type of the Right value for Either a
+     * @param <B>       the type of the Right value for Either b
+     * @param <C>       the type of the Right value for Either c
+     * @param <D>       the type of the Right value for Either d
+     * @param <E>       the type of the Right value for Either e
+     * @param <F>       the type of the Right value for Either f
+     * @param <G>       the type of the Right value for Either g
+     * @param <Z>       the type of the result value
+     * @param policy    the policy describing how Left values are accumulated
+     * @param a         the Either for value a
+     * @param b         the Either for value b
+     * @param c         the Either for value c
+     * @param d         the Either for value d
+     * @param e         the Either for value e
+     * @param f         the Either for value f
+     * @param g         the Either for value g
+     * @param transform the function to apply to the values if all Either instances are Right
+     * @return an Either containing the accumulated Left values or the result of applying the transform function
+     */
+    @SuppressWarnings("squid:S107")
+    static <R, A, B, C, D, E, F, G, Z> Either<AccumulatedErrors<R>, Z> zipOrAccumulate(
+            final AccumulationPolicy policy,
+            final Either<R, A> a,
+            final Either<R, B> b,
+            final Either<R, C> c,
+            final Either<R, D> d,
+            final Either<R, E> e,
+            final Either<R, F> f,
+            final Either<R, G> g,
+            final Function7<A, B, C, D, E, F, G, Z> transform
+    )
+    {
+        return zipOrAccumulate(
+                policy, a, b, c, d, e, f, g, Either.noop(), Either.noop(), Either.noop(),
+                (aa, bb, cc, dd, ee, ff, gg, hh, ii, jj) -> transform.apply(aa, bb, cc, dd, ee, ff, gg));
+    }
+
+    /**
+     * Zips or accumulates the values from multiple Either instances under the given accumulation policy.
+     * If all input Either instances are Right, the transform function is applied to the values and the result
+     * is wrapped in a Right. Otherwise, the Left values are collected as described by the policy.
+     *
+     * @param <R>       the type of the Left value
+     * @param <A>       the type of the Right value for Either a
+     * @param <B>       the type of the Right value for Either b
+     * @param <C>       the type of the Right value for Either c
+     * @param <D>       the type of the Right value for Either d
+     * @param <E>       the type of the Right value for Either e
+     * @param <F>       the type of the Right value for Either f
+     * @param <G>       the type of the Right value for Either g
+     * @param <H>       the type of the Right value for Either h
+     * @param <Z>       the type of the result value
+     * @param policy    the policy describing how Left values are accumulated
+     * @param a         the Either for value a
+     * @param b         the Either for value b
+     * @param c         the Either for value c
+     * @param d         the Either for value d
+     * @param e         the Either for value e
+     * @param f         the Either for value f
+     * @param g         the Either for value g
+     * @param h         the Either for value h
+     * @param transform the function to apply to the values if all Either instances are Right
+     * @return an Either containing the accumulated Left values or the result of applying the transform function
+     */
+    @SuppressWarnings("squid:S107")
+    static <R, A, B, C, D, E, F, G, H, Z> Either<AccumulatedErrors<R>, Z> zipOrAccumulate(
+            final AccumulationPolicy policy,
+            final Either<R, A> a,
+            final Either<R, B> b,
+            final Either<R, C> c,
+            final Either<R, D> d,
+            final Either<R, E> e,
+            final Either<R, F> f,
+            final Either<R, G> g,
+            final Either<R, H> h,
+            final Function8<A, B, C, D, E, F, G, H, Z> transform
+    )
+    {
+        return zipOrAccumulate(
+                policy, a, b, c, d, e, f, g, h, Either.noop(), Either.noop(),
+                (aa, bb, cc, dd, ee, ff, gg, hh, ii, jj) -> transform.apply(aa, bb, cc, dd, ee, ff, gg, hh));
+    }
+
+    /**
+     * Zips or accumulates the values from multiple Either instances under the given accumulation policy.
+     * If all input Either instances are Right, the transform function is applied to the values and the result
+     * is wrapped in a Right. Otherwise, the Left values are collected as described by the policy.
+     *
+     * @param <R>       the type of the Left value
+     * @param <A>       the type of the Right value for Either a
+     * @param <B>       the type of the Right value for Either b
+     * @param <C>       the type of the Right value for Either c
+     * @param <D>       the type of the Right value for Either d
+     * @param <E>       the type of the Right value for Either e
+     * @param <F>       the type of the Right value for Either f
+     * @param <G>       the type of the Right value for Either g
+     * @param <H>       the type of the Right value for Either h
+     * @param <I>       the type of the Right value for Either i
+     * @param <Z>       the type of the result value
+     * @param policy    the policy describing how Left values are accumulated
+     * @param a         the Either for value a
+     * @param b         the Either for value b
+     * @param c         the Either for value c
+     * @param d         the Either for value d
+     * @param e         the Either for value e
+     * @param f         the Either for value f
+     * @param g         the Either for value g
+     * @param h         the Either for value h
+     * @param i         the Either for value i
+     * @param transform the function to apply to the values if all Either instances are Right
+     * @return an Either containing the accumulated Left values or the result of applying the transform function
+     */
+    @SuppressWarnings("squid:S107")
+    static <R, A, B, C, D, E, F, G, H, I, Z> Either<AccumulatedErrors<R>, Z> zipOrAccumulate(
+            final AccumulationPolicy policy,
+            final Either<R, A> a,
+            final Either<R, B> b,
+            final Either<R, C> c,
+            final Either<R, D> d,
+            final Either<R, E> e,
+            final Either<R, F> f,
+            final Either<R, G> g,
+            final Either<R, H> h,
+            final Either<R, I> i,
+            final Function9<A, B, C, D, E, F, G, H, I, Z> transform
+    )
+    {
+        return zipOrAccumulate(
+                policy, a, b, c, d, e, f, g, h, i, Either.noop(),
+                (aa, bb, cc, dd, ee, ff, gg, hh, ii, jj) -> transform.apply(aa, bb, cc, dd, ee, ff, gg, hh, ii));
+    }
+
+    /**
+     * Zips or accumulates the values from multiple Either instances under the given accumulation policy.
+     * If all input Either instances are Right, the transform function is applied to the values and the result
+     * is wrapped in a Right. Otherwise, the Left values are collected as described by the policy.
+     *
+     * @param <R>       the type of the Left value
+     * @param <A>       the type of the Right value for Either a
+     * @param <B>       the type of the Right value for Either b
+     * @param <C>       the type of the Right value for Either c
+     * @param <D>       the type of the Right value for Either d
+     * @param <E>       the type of the Right value for Either e
+     * @param <F>       the type of the Right value for Either f
+     * @param <G>       the type of the Right value for Either g
+     * @param <H>       the type of the Right value for Either h
+     * @param <I>       the type of the Right value for Either i
+     * @param <J>       the type of the Right value for Either j
+     * @param <Z>       the type of the result value
+     * @param policy    the policy describing how Left values are accumulated
+     * @param a         the Either for value a
+     * @param b         the Either for value b
+     * @param c         the Either for value c
+     * @param d         the Either for value d
+     * @param e         the Either for value e
+     * @param f         the Either for value f
+     * @param g         the Either for value g
+     * @param h         the Either for value h
+     * @param i         the Either for value i
+     * @param j         the Either for value j
+     * @param transform the function to apply to the values if all Either instances are Right
+     * @return an Either containing the accumulated Left values or the result of applying the transform function
+     */
+    @SuppressWarnings("squid:S107")
+    static <R, A, B, C, D, E, F, G, H, I, J, Z> Either<AccumulatedErrors<R>, Z> zipOrAccumulate(
+            final AccumulationPolicy policy,
+            final Either<R, A> a,
+            final Either<R, B> b,
+            final Either<R, C> c,
+            final Either<R, D> d,
+            final Either<R, E> e,
+            final Either<R, F> f,
+            final Either<R, G> g,
+            final Either<R, H> h,
+            final Either<R, I> i,
+            final Either<R, J> j,
+            final Function10<A, B, C, D, E, F, G, H, I, J, Z> transform
+    )
+    {
+        final var errors = new ErrorAccumulator<R>(policy);
+        errors.collectAll(a, b, c, d, e, f, g, h, i, j);
+
+        if (errors.hasErrors())
+        {
+            return left(errors.toErrors());
+        }
+        else
+        {
+            return right(transform.apply(a.get(), b.get(), c.get(), d.get(), e.get(), f.get(), g.get(), h.get(), i.get(), j.get()));
+        }
+    }
+
+    /**
+     * Turns a sequence of Either into an Either of a sequence. If all input Either instances are Right, their values
+     * are returned in a Right, in iteration order. Otherwise, every Left value is accumulated into a NonEmptyList.
+     *
+     * @param <L>     the type of the Left values
+     * @param <R>     the type of the Right values
+     * @param eithers the Either instances to sequence
+     * @return an Either containing the accumulated Left values or the Right values
+     * @throws NullPointerException if eithers is null
+     */
+    static <L, R> Either<NonEmptyList<L>, FList<R>> sequence(final Iterable<? extends Either<? extends L, ? extends R>> eithers)
+    {
+        return Either.<L, R>sequence(eithers, AccumulationPolicy.unbounded()).mapLeft(AccumulatedErrors::errors);
+    }
+
+    /**
+     * Turns a sequence of Either into an Either of a sequence under the given accumulation policy. If all input
+     * Either instances are Right, their values are returned in a Right, in iteration order. Otherwise, the Left values
+     * are collected as described by the policy.
+     *
+     * @param <L>     the type of the Left values
+     * @param <R>     the type of the Right values
+     * @param eithers the Either instances to sequence
+     * @param policy  the policy describing how Left values are accumulated
+     * @return an Either containing the accumulated Left values or the Right values
+     * @throws NullPointerException if eithers or policy is null
+     */
+    static <L, R> Either<AccumulatedErrors<L>, FList<R>> sequence(
+            final Iterable<? extends Either<? extends L, ? extends R>> eithers,
+            final AccumulationPolicy policy
+    )
+    {
+        return Either.<L, Either<? extends L, ? extends R>, R>traverse(eithers, either -> either, policy);
+    }
+
+    /**
+     * Maps each value to an Either and turns the results into an Either of a sequence. If every mapped Either is Right,
+     * their values are returned in a Right, in iteration order. Otherwise, every Left value is accumulated into a
+     * NonEmptyList.
+     *
+     * @param <L>    the type of the Left values
+     * @param <T>    the type of the input values
+     * @param <R>    the type of the Right values
+     * @param values the values to map
+     * @param mapper the function mapping each value to an Either
+     * @return an Either containing the accumulated Left values or the Right values
+     * @throws NullPointerException if values or mapper is null
+     */
+    static <L, T, R> Either<NonEmptyList<L>, FList<R>> traverse(
+            final Iterable<? extends T> values,
+            final Function1<? super T, ? extends Either<? extends L, ? extends R>> mapper
+    )
+    {
+        return Either.<L, T, R>traverse(values, mapper, AccumulationPolicy.unbounded()).mapLeft(AccumulatedErrors::errors);
+    }
+
+    /**
+     * Maps each value to an Either and turns the results into an Either of a sequence under the given accumulation
+     * policy. If every mapped Either is Right, their values are returned in a Right, in iteration order. Otherwise, the
+     * Left values are collected as described by the policy. A short-circuiting policy stops mapping the values as soon
+     * as enough errors have been collected.
+     *
+     * @param <L>    the type of the Left values
+     * @param <T>    the type of the input values
+     * @param <R>    the type of the Right values
+     * @param values the values to map
+     * @param mapper the function mapping each value to an Either
+     * @param policy the policy describing how Left values are accumulated
+     * @return an Either containing the accumulated Left values or the Right values
+     * @throws NullPointerException if values, mapper or policy is null
+     */
+    static <L, T, R> Either<AccumulatedErrors<L>, FList<R>> traverse(
+            final Iterable<? extends T> values,
+            final Function1<? super T, ? extends Either<? extends L, ? extends R>> mapper,
+            final AccumulationPolicy policy
+    )
+    {
+        Objects.requireNonNull(values, "values is null");
+        Objects.requireNonNull(mapper, "mapper is null");
+        final var errors = new ErrorAccumulator<L>(policy);
+        final var results = new ArrayList<R>();
+        for (final T value : values)
+        {
+            final Either<? extends L, ? extends R> either = mapper.apply(value);
+            if (!errors.collect(either))
+            {
+                break;
+            }
+            if (either.isRight() && !errors.hasErrors())
+            {
+                results.add(either.get());
+            }
+        }
+
+        if (errors.hasErrors())
+        {
+            return left(errors.toErrors());
+        }
+        else
+        {
+            return right(FList.of(results));
+        }
+    }
+
     /**
      * Combines or accumulates multiple Either into a single Either.
      * If all the input Either are Right, then
@@ -945,6 +1418,45 @@ public sealed interface Either<L, R>
         }
     }
 
+    /**
+     * Applies the given function to the value of this Either and returns the int result without boxing it.
+     *
+     * @param mapper the function to apply to the value
+     * @return the result of the mapper function, or an empty OptionalInt if this Either is a Left
+     * @throws NullPointerException if the mapper function is null
+     */
+    default OptionalInt mapToInt(final ToIntFunction1<? super R> mapper)
+    {
+        Objects.requireNonNull(mapper, "mapper is null");
+        return isLeft() ? OptionalInt.empty() : OptionalInt.of(mapper.applyAsInt(get()));
+    }
+
+    /**
+     * Applies the given function to the value of this Either and returns the long result without boxing it.
+     *
+     * @param mapper the function to apply to the value
+     * @return the result of the mapper function, or an empty OptionalLong if this Either is a Left
+     * @throws NullPointerException if the mapper function is null
+     */
+    default OptionalLong mapToLong(final ToLongFunction1<? super R> mapper)
+    {
+        Objects.requireNonNull(mapper, "mapper is null");
+        return isLeft() ? OptionalLong.empty() : OptionalLong.of(mapper.applyAsLong(get()));
+    }
+
+    /**
+     * Applies the given function to the value of this Either and returns the double result without boxing it.
+     *
+     * @param mapper the function to apply to the value
+     * @return the result of the mapper function, or an empty OptionalDouble if this Either is a Left
+     * @throws NullPointerException if the mapper function is null
+     */
+    default OptionalDouble mapToDouble(final ToDoubleFunction1<? super R> mapper)
+    {
+        Objects.requireNonNull(mapper, "mapper is null");
+        return isLeft() ? OptionalDouble.empty() : OptionalDouble.of(mapper.applyAsDouble(get()));
+    }
+
     /**
      * Transforms the value of this Either if it is a Right using the provided mapping function,
      * and returns the result. If this is a Left, the same instance is returned.
@@ -1048,6 +1560,10 @@ public sealed interface Either<L, R>
      */
     final class Left<L, R> implements Either<L, R>
     {
+        /**
+         * Shared instance of Left holding {@code null}.
+         */
+        private static final Left<?, ?> NULL = new Left<>(null);
 
         /**
          * Represents the value stored in an instance of Left.
@@ -1066,6 +1582,20 @@ public sealed interface Either<L, R>
             this.value = value;
         }
 
+        /**
+         * Returns an instance of Left with the specified value, sharing the instance holding {@code null}.
+         *
+         * @param value the value for the left side of the instance
+         * @param <L>   the type of the left value
+         * @param <R>   the type of the right value
+         * @return an instance of Left with the specified value
+         */
+        @SuppressWarnings("unchecked")
+        static <L, R> Left<L, R> of(final L value)
+        {
+            return value == null ? (Left<L, R>) NULL : new Left<>(value);
+        }
+
         /**
          * Determines if the object is from the left side.
          *
@@ -1112,6 +1642,32 @@ public sealed interface Either<L, R>
             return value;
         }
 
+        @Override
+        public boolean contains(final R value)
+        {
+            return false;
+        }
+
+        @Override
+        public boolean exists(final Predicate<? super R> predicate)
+        {
+            Objects.requireNonNull(predicate, "predicate is null");
+            return false;
+        }
+
+        @Override
+        public boolean forAll(final Predicate<? super R> predicate)
+        {
+            Objects.requireNonNull(predicate, "predicate is null");
+            return true;
+        }
+
+        @Override
+        public void forEach(final Consumer<? super R> action)
+        {
+            Objects.requireNonNull(action, "action is null");
+        }
+
         @Override
         public boolean equals(final Object obj)
         {
@@ -1143,6 +1699,11 @@ public sealed interface Either<L, R>
      */
     final class Right<L, R> implements Either<L, R>
     {
+        /**
+         * Shared instances of Right for {@code null}, booleans and small integers.
+         */
+        private static final Flyweights<Right<?, ?>> FLYWEIGHTS = new Flyweights<>(Right::new);
+
         /**
          * Value stored in an instance of the Right class.
          */
@@ -1158,6 +1719,22 @@ public sealed interface Either<L, R>
             this.value = value;
         }
 
+        /**
+         * Returns an instance of Right with the specified value, sharing the instances holding {@code null},
+         * booleans and small integers.
+         *
+         * @param value the value for the right side of the instance
+         * @param <L>   the type of the left value
+         * @param <R>   the type of the right value
+         * @return an instance of Right with the specified value
+         */
+        @SuppressWarnings("unchecked")
+        static <L, R> Right<L, R> of(final R value)
+        {
+            final var shared = FLYWEIGHTS.lookup(value);
+            return shared == null ? new Right<>(value) : (Right<L, R>) shared;
+        }
+
         /**
          * Determines if the given object is positioned at the left.
          *
@@ -1203,6 +1780,33 @@ public sealed interface Either<L, R>
             throw new NoSuchElementException("Calling getLeft on a Right");
         }
 
+        @Override
+        public boolean contains(final R value)
+        {
+            return Objects.equals(this.value, value);
+        }
+
+        @Override
+        public boolean exists(final Predicate<? super R> predicate)
+        {
+            Objects.requireNonNull(predicate, "predicate is null");
+            return predicate.test(value);
+        }
+
+        @Override
+        public boolean forAll(final Predicate<? super R> predicate)
+        {
+            Objects.requireNonNull(predicate, "predicate is null");
+            return predicate.test(value);
+        }
+
+        @Override
+        public void forEach(final Consumer<? super R> action)
+        {
+            Objects.requireNonNull(action, "action is null");
+            action.accept(value);
+        }
+
         @Override
         public boolean equals(final Object obj)
         {
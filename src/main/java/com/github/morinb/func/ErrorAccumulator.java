@@ -0,0 +1,132 @@
+/*
+ * Copyright 2026 Baptiste MORIN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.morinb.func;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Mutable collector of Left values honouring an {@link AccumulationPolicy}.
+ * The retained errors buffer is only allocated when the first error is added.
+ *
+ * @param <L> the type of the errors
+ */
+final class ErrorAccumulator<L>
+{
+    private final AccumulationPolicy policy;
+    private List<L> retained;
+    private long count;
+
+    /**
+     * Creates an ErrorAccumulator.
+     *
+     * @param policy the policy to honour
+     * @throws NullPointerException if policy is null
+     */
+    ErrorAccumulator(final AccumulationPolicy policy)
+    {
+        this.policy = Objects.requireNonNull(policy, "policy is null");
+    }
+
+    /**
+     * Adds the Left value of the given Either, if any.
+     *
+     * @param either the Either to inspect
+     * @return true if the evaluation may continue, false if the policy requests to stop
+     */
+    boolean collect(final Either<? extends L, ?> either)
+    {
+        if (either.isLeft())
+        {
+            add(either.getLeft());
+        }
+        return !isSaturated();
+    }
+
+    /**
+     * Adds the Left values of the given Either, in order, stopping as soon as the policy requests it.
+     *
+     * @param eithers the Either to inspect
+     * @return true if the evaluation may continue, false if the policy requests to stop
+     */
+    @SafeVarargs
+    final boolean collectAll(final Either<? extends L, ?>... eithers)
+    {
+        for (final Either<? extends L, ?> either : eithers)
+        {
+            if (!collect(either))
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Adds an error.
+     *
+     * @param error the error to add
+     */
+    void add(final L error)
+    {
+        count++;
+        if (count <= policy.maxErrors())
+        {
+            if (retained == null)
+            {
+                retained = new ArrayList<>();
+            }
+            retained.add(error);
+        }
+    }
+
+    /**
+     * Checks if the policy requests to stop the evaluation.
+     *
+     * @return true if the evaluation must stop, false otherwise
+     */
+    boolean isSaturated()
+    {
+        return policy.shortCircuit() && count >= policy.maxErrors();
+    }
+
+    /**
+     * Checks if at least one error was added.
+     *
+     * @return true if an error was added, false otherwise
+     */
+    boolean hasErrors()
+    {
+        return count > 0;
+    }
+
+    /**
+     * Returns the accumulated errors.
+     *
+     * @return the accumulated errors
+     * @throws IllegalStateException if no error was added
+     */
+    AccumulatedErrors<L> toErrors()
+    {
+        if (!hasErrors())
+        {
+            throw new IllegalStateException("No error accumulated");
+        }
+        return new AccumulatedErrors<>(NonEmptyList.of(retained), count);
+    }
+}
@@ -0,0 +1,227 @@
+/*
+ * Copyright 2026 Baptiste MORIN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.morinb.func;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * A lazily evaluated value recomputed once it is older than a given time to live.
+ * <p>
+ * Created by {@link Lazy#expireAfterWrite(Duration, Supplier)}. Reading an expired value blocks until it is
+ * recomputed, by a single thread. With {@link #refreshAhead(Duration)}, a value read shortly before its expiry is
+ * recomputed in the background while readers keep getting the current one, so that readers do not block on a
+ * refresh. Loads and refreshes share a lock, so that the supplier runs on a single thread at a time; a refresh whose
+ * value was replaced or invalidated meanwhile is dropped, and a failed refresh keeps the current value.
+ *
+ * @param <T> the type of the value
+ */
+public final class ExpiringLazy<T> implements Supplier<T>
+{
+    private final Supplier<? extends T> supplier;
+    private final long timeToLive;
+    private final long refreshAhead;
+    private final Executor executor;
+    private final LongSupplier clock;
+    private final ReentrantLock loading = new ReentrantLock();
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+    private final AtomicReference<Entry<T>> entry = new AtomicReference<>();
+
+    /**
+     * Creates an ExpiringLazy.
+     *
+     * @param supplier     the supplier of the value
+     * @param timeToLive   the time to live of a value, in nanoseconds
+     * @param refreshAhead the time before expiry from which a read triggers a refresh, in nanoseconds, 0 for none
+     * @param executor     the executor running the refreshes
+     * @param clock        the source of nanosecond time
+     */
+    ExpiringLazy(final Supplier<? extends T> supplier,
+                 final long timeToLive,
+                 final long refreshAhead,
+                 final Executor executor,
+                 final LongSupplier clock)
+    {
+        this.supplier = supplier;
+        this.timeToLive = timeToLive;
+        this.refreshAhead = refreshAhead;
+        this.executor = executor;
+        this.clock = clock;
+    }
+
+    /**
+     * Returns an ExpiringLazy with the same supplier and time to live, refreshing a value in the background on
+     * the default executor when it is read less than the given duration before its expiry.
+     *
+     * @param beforeExpiry the duration before expiry from which a read triggers a refresh
+     * @return a new ExpiringLazy, holding no value yet
+     * @throws NullPointerException     if beforeExpiry is null
+     * @throws IllegalArgumentException if beforeExpiry is not strictly positive or exceeds the time to live
+     */
+    public ExpiringLazy<T> refreshAhead(final Duration beforeExpiry)
+    {
+        return refreshAhead(beforeExpiry, DefaultExecutor.get());
+    }
+
+    /**
+     * Returns an ExpiringLazy with the same supplier and time to live, refreshing a value in the background on
+     * the given executor when it is read less than the given duration before its expiry.
+     *
+     * @param beforeExpiry the duration before expiry from which a read triggers a refresh
+     * @param executor     the executor running the refreshes
+     * @return a new ExpiringLazy, holding no value yet
+     * @throws NullPointerException     if beforeExpiry or executor is null
+     * @throws IllegalArgumentException if beforeExpiry is not strictly positive or exceeds the time to live
+     */
+    public ExpiringLazy<T> refreshAhead(final Duration beforeExpiry, final Executor executor)
+    {
+        Objects.requireNonNull(beforeExpiry, "beforeExpiry is null");
+        Objects.requireNonNull(executor, "executor is null");
+        final var nanos = beforeExpiry.toNanos();
+        if (nanos <= 0 || nanos > timeToLive)
+        {
+            throw new IllegalArgumentException("beforeExpiry must be strictly positive and cannot exceed the time to live");
+        }
+        return new ExpiringLazy<>(supplier, timeToLive, nanos, executor, clock);
+    }
+
+    /**
+     * Returns the current value, computing it if there is none or if it has expired.
+     *
+     * @return the current value
+     */
+    @Override
+    public T get()
+    {
+        final var current = entry.get();
+        final var now = clock.getAsLong();
+        if (current != null && now - current.expiresAt < 0)
+        {
+            if (refreshAhead > 0 && now - (current.expiresAt - refreshAhead) >= 0)
+            {
+                refresh(current);
+            }
+            return current.value;
+        }
+        return load();
+    }
+
+    /**
+     * Checks if a value that has not expired is held.
+     *
+     * @return true if a value that has not expired is held, false otherwise
+     */
+    public boolean isEvaluated()
+    {
+        final var current = entry.get();
+        return current != null && clock.getAsLong() - current.expiresAt < 0;
+    }
+
+    /**
+     * Discards the current value, so that the next read computes a new one. A refresh or a load running meanwhile
+     * does not bring the discarded value back.
+     */
+    public void invalidate()
+    {
+        entry.set(null);
+    }
+
+    /**
+     * Computes the value on the calling thread, unless another thread did it while this one was waiting.
+     *
+     * @return the current value
+     */
+    private T load()
+    {
+        loading.lock();
+        try
+        {
+            final var current = entry.get();
+            if (current != null && clock.getAsLong() - current.expiresAt < 0)
+            {
+                return current.value;
+            }
+            final T value = supplier.get();
+            entry.compareAndSet(current, new Entry<>(value, clock.getAsLong() + timeToLive));
+            return value;
+        } finally
+        {
+            loading.unlock();
+        }
+    }
+
+    /**
+     * Starts a background refresh of the given entry, unless one is already running.
+     *
+     * @param expected the entry to replace
+     */
+    private void refresh(final Entry<T> expected)
+    {
+        if (refreshing.compareAndSet(false, true))
+        {
+            try
+            {
+                executor.execute(() ->
+                {
+                    loading.lock();
+                    try
+                    {
+                        if (entry.get() == expected)
+                        {
+                            final T value = supplier.get();
+                            entry.compareAndSet(expected, new Entry<>(value, clock.getAsLong() + timeToLive));
+                        }
+                    } catch (final RuntimeException e)
+                    {
+                        // the current value is kept, the next read retries
+                    } finally
+                    {
+                        loading.unlock();
+                        refreshing.set(false);
+                    }
+                });
+            } catch (final RuntimeException e)
+            {
+                refreshing.set(false);
+            }
+        }
+    }
+
+    @Override
+    public String toString()
+    {
+        final var current = entry.get();
+        return "ExpiringLazy(" + (current != null && clock.getAsLong() - current.expiresAt < 0 ? current.value : "?") + ")";
+    }
+
+    /**
+     * A computed value with its expiry time.
+     *
+     * @param value     the value
+     * @param expiresAt the nanosecond time at which the value expires
+     * @param <T>       the type of the value
+     */
+    private record Entry<T>(T value, long expiresAt)
+    {
+    }
+}
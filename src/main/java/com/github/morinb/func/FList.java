@@ -213,6 +213,138 @@ public record FList<T>(T head, FList<T> tail)
         }
     }
 
+    /**
+     * Applies the given function to each element of the list and returns the int results in an array, without
+     * boxing them.
+     *
+     * @param mapper the function to apply to each element of the list
+     * @return the results, in the order of the elements
+     * @throws NullPointerException if the mapper function is null
+     */
+    public int[] mapToInt(final ToIntFunction1<? super T> mapper)
+    {
+        Objects.requireNonNull(mapper, "mapper is null");
+        var length = 0;
+        for (var list = this; !list.isEmpty(); list = list.tail)
+        {
+            length++;
+        }
+        final var results = new int[length];
+        var index = 0;
+        for (var list = this; !list.isEmpty(); list = list.tail)
+        {
+            results[index++] = mapper.applyAsInt(list.head);
+        }
+        return results;
+    }
+
+    /**
+     * Applies the given function to each element of the list and returns the long results in an array, without
+     * boxing them.
+     *
+     * @param mapper the function to apply to each element of the list
+     * @return the results, in the order of the elements
+     * @throws NullPointerException if the mapper function is null
+     */
+    public long[] mapToLong(final ToLongFunction1<? super T> mapper)
+    {
+        Objects.requireNonNull(mapper, "mapper is null");
+        var length = 0;
+        for (var list = this; !list.isEmpty(); list = list.tail)
+        {
+            length++;
+        }
+        final var results = new long[length];
+        var index = 0;
+        for (var list = this; !list.isEmpty(); list = list.tail)
+        {
+            results[index++] = mapper.applyAsLong(list.head);
+        }
+        return results;
+    }
+
+    /**
+     * Applies the given function to each element of the list and returns the double results in an array, without
+     * boxing them.
+     *
+     * @param mapper the function to apply to each element of the list
+     * @return the results, in the order of the elements
+     * @throws NullPointerException if the mapper function is null
+     */
+    public double[] mapToDouble(final ToDoubleFunction1<? super T> mapper)
+    {
+        Objects.requireNonNull(mapper, "mapper is null");
+        var length = 0;
+        for (var list = this; !list.isEmpty(); list = list.tail)
+        {
+            length++;
+        }
+        final var results = new double[length];
+        var index = 0;
+        for (var list = this; !list.isEmpty(); list = list.tail)
+        {
+            results[index++] = mapper.applyAsDouble(list.head);
+        }
+        return results;
+    }
+
+    /**
+     * Applies the given function to each element of the list and returns the sum of the int results, without
+     * boxing them.
+     *
+     * @param mapper the function to apply to each element of the list
+     * @return the sum of the results, 0 if the list is empty
+     * @throws NullPointerException if the mapper function is null
+     */
+    public int sumInt(final ToIntFunction1<? super T> mapper)
+    {
+        Objects.requireNonNull(mapper, "mapper is null");
+        var sum = 0;
+        for (var list = this; !list.isEmpty(); list = list.tail)
+        {
+            sum += mapper.applyAsInt(list.head);
+        }
+        return sum;
+    }
+
+    /**
+     * Applies the given function to each element of the list and returns the sum of the long results, without
+     * boxing them.
+     *
+     * @param mapper the function to apply to each element of the list
+     * @return the sum of the results, 0L if the list is empty
+     * @throws NullPointerException if the mapper function is null
+     */
+    public long sumLong(final ToLongFunction1<? super T> mapper)
+    {
+        Objects.requireNonNull(mapper, "mapper is null");
+        var sum = 0L;
+        for (var list = this; !list.isEmpty(); list = list.tail)
+        {
+            sum += mapper.applyAsLong(list.head);
+        }
+        return sum;
+    }
+
+    /**
+     * Applies the given function to each element of the list and returns the sum of the double results, without
+     * boxing them.
+     *
+     * @param mapper the function to apply to each element of the list
+     * @return the sum of the results, 0.0 if the list is empty
+     * @throws NullPointerException if the mapper function is null
+     */
+    public double sumDouble(final ToDoubleFunction1<? super T> mapper)
+    {
+        Objects.requireNonNull(mapper, "mapper is null");
+        var sum = 0.0;
+        for (var list = this; !list.isEmpty(); list = list.tail)
+        {
+            sum += mapper.applyAsDouble(list.head);
+        }
+        return sum;
+    }
+
     /**
      * Filters the elements of the FList based on the provided predicate.
      *
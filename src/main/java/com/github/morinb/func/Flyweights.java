@@ -0,0 +1,88 @@
+/*
+ * Copyright 2026 Baptiste MORIN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.morinb.func;
+
+import java.util.function.Function;
+
+/**
+ * Canonical instances of an immutable single-value wrapper for {@code null}, {@link Boolean#TRUE},
+ * {@link Boolean#FALSE} and the small integers cached by {@link Integer#valueOf(int)}.
+ * <p>
+ * A value is only considered canonical when it is the very instance returned by the JDK caches, so that wrapping
+ * a value never changes the identity of what {@code get()} returns.
+ *
+ * @param <W> the type of the wrapper
+ */
+final class Flyweights<W>
+{
+    private static final int LOW = -128;
+    private static final int HIGH = 127;
+
+    private final W nullInstance;
+    private final W trueInstance;
+    private final W falseInstance;
+    private final Object[] integers;
+
+    /**
+     * Creates the canonical instances using the given wrapper factory.
+     *
+     * @param factory the function wrapping a value
+     */
+    Flyweights(final Function<Object, W> factory)
+    {
+        nullInstance = factory.apply(null);
+        trueInstance = factory.apply(Boolean.TRUE);
+        falseInstance = factory.apply(Boolean.FALSE);
+        integers = new Object[HIGH - LOW + 1];
+        for (var i = LOW; i <= HIGH; i++)
+        {
+            integers[i - LOW] = factory.apply(Integer.valueOf(i));
+        }
+    }
+
+    /**
+     * Returns the canonical wrapper of the given value, if any.
+     *
+     * @param value the value to look up
+     * @return the canonical wrapper of the value, or {@code null} if the value has no canonical wrapper
+     */
+    @SuppressWarnings("unchecked")
+    W lookup(final Object value)
+    {
+        if (value == null)
+        {
+            return nullInstance;
+        }
+        if (value == Boolean.TRUE)
+        {
+            return trueInstance;
+        }
+        if (value == Boolean.FALSE)
+        {
+            return falseInstance;
+        }
+        if (value instanceof final Integer integer)
+        {
+            final int i = integer;
+            if (i >= LOW && i <= HIGH && integer == Integer.valueOf(i))
+            {
+                return (W) integers[i - LOW];
+            }
+        }
+        return null;
+    }
+}
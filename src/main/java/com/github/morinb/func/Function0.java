@@ -52,4 +52,29 @@ public interface Function0<R> extends Supplier<R> {
     default R get() {
         return apply();
     }
+
+    /**
+     * Returns a memoizing version of this function, caching its result in a single entry cache.
+     *
+     * @return a memoizing version of this function
+     * @see #memoized(MemoCache)
+     */
+    default Function0<R> memoized() {
+        return memoized(MemoCache.lru(1));
+    }
+
+    /**
+     * Returns a memoizing version of this function, caching its results in the given cache.
+     * Concurrent calls with equal parameters share a single evaluation.
+     * The keys include this function, so that the cache can be shared with other functions.
+     *
+     * @param cache the cache of the results
+     * @return a memoizing version of this function
+     * @throws NullPointerException if cache is null
+     */
+    default Function0<R> memoized(final MemoCache<R> cache) {
+        Objects.requireNonNull(cache, "cache is null");
+        final var key = MemoCache.key(this);
+        return () -> cache.get(key, () -> apply());
+    }
 }
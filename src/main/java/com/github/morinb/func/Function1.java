@@ -16,6 +16,8 @@
 
 package com.github.morinb.func;
 
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Objects;
 import java.util.function.Function;
 
@@ -63,4 +65,72 @@ public interface Function1<T1, R> extends Function<T1, R>
     {
         return this;
     }
+
+    /**
+     * Returns a memoizing version of this function, caching up to {@value MemoCache#DEFAULT_MAXIMUM_SIZE} results in
+     * a least recently used cache.
+     *
+     * @return a memoizing version of this function
+     * @see #memoized(MemoCache)
+     */
+    default Function1<T1, R> memoized()
+    {
+        return memoized(MemoCache.lru(MemoCache.DEFAULT_MAXIMUM_SIZE));
+    }
+
+    /**
+     * Returns a memoizing version of this function, caching its results in the given cache keyed by its parameter.
+     * Concurrent calls with equal parameters share a single evaluation.
+     * The keys include this function, so that the cache can be shared with other functions.
+     *
+     * @param cache the cache of the results
+     * @return a memoizing version of this function
+     * @throws NullPointerException if cache is null
+     */
+    default Function1<T1, R> memoized(final MemoCache<R> cache)
+    {
+        Objects.requireNonNull(cache, "cache is null");
+        return (T1 param1) -> cache.get(MemoCache.key(this, param1), () -> apply(param1));
+    }
+
+    /**
+     * Returns the memoizing fixed point of the given recursive definition.
+     * <p>
+     * The definition receives a function standing for the recursive call, and returns the steps of the computation
+     * as a {@link Trampoline}, so that deep recursion runs in constant stack depth. Each subresult is computed once
+     * per top-level call: the cache is created when the returned function is applied and discarded with the result.
+     * <pre>{@code
+     * Function1<Integer, BigInteger> fibonacci = Function1.fix((self, n) -> n < 2
+     *         ? Trampoline.done(BigInteger.valueOf(n))
+     *         : self.apply(n - 1).flatMap(a -> self.apply(n - 2).map(a::add)));
+     * }</pre>
+     * The parameters are used as keys of a {@link java.util.HashMap}, and must implement equals and hashCode.
+     *
+     * @param definition the recursive definition, applied to the recursive call and the parameter
+     * @param <T1>       the type of the parameter
+     * @param <R>        the type of the result
+     * @return a function computing the fixed point of the definition
+     * @throws NullPointerException if definition is null
+     */
+    static <T1, R> Function1<T1, R> fix(final Function2<Function1<T1, Trampoline<R>>, T1, Trampoline<R>> definition)
+    {
+        Objects.requireNonNull(definition, "definition is null");
+        return (T1 param1) -> {
+            final Map<T1, R> results = new HashMap<>();
+            final var self = new Function1<T1, Trampoline<R>>()
+            {
+                @Override
+                public Trampoline<R> apply(final T1 param)
+                {
+                    return Trampoline.defer(() -> results.containsKey(param)
+                            ? Trampoline.done(results.get(param))
+                            : definition.apply(this, param).map(result -> {
+                        results.put(param, result);
+                        return result;
+                    }));
+                }
+            };
+            return self.apply(param1).run();
+        };
+    }
 }
@@ -73,4 +73,30 @@ public interface Function6<T1, T2, T3, T4, T5, T6, R>
         return param1 -> param2 -> param3 -> param4 -> param5 -> param6 -> apply(param1, param2, param3, param4, param5, param6);
     }
 
+    /**
+     * Returns a memoizing version of this function, caching up to {@value MemoCache#DEFAULT_MAXIMUM_SIZE} results in
+     * a least recently used cache.
+     *
+     * @return a memoizing version of this function
+     * @see #memoized(MemoCache)
+     */
+    default Function6<T1, T2, T3, T4, T5, T6, R> memoized()
+    {
+        return memoized(MemoCache.lru(MemoCache.DEFAULT_MAXIMUM_SIZE));
+    }
+
+    /**
+     * Returns a memoizing version of this function, caching its results in the given cache keyed by its parameters.
+     * Concurrent calls with equal parameters share a single evaluation.
+     * The keys include this function, so that the cache can be shared with other functions.
+     *
+     * @param cache the cache of the results
+     * @return a memoizing version of this function
+     * @throws NullPointerException if cache is null
+     */
+    default Function6<T1, T2, T3, T4, T5, T6, R> memoized(final MemoCache<R> cache)
+    {
+        Objects.requireNonNull(cache, "cache is null");
+        return (T1 param1, T2 param2, T3 param3, T4 param4, T5 param5, T6 param6) -> cache.get(MemoCache.key(this, param1, param2, param3, param4, param5, param6), () -> apply(param1, param2, param3, param4, param5, param6));
+    }
 }
\ No newline at end of file
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2026 Baptiste MORIN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.morinb.func;
+
+import java.util.Objects;
+import java.util.function.IntFunction;
+
+/**
+ * Represents a function that accepts an int argument and produces a result, without boxing the argument.
+ * This is a functional interface whose functional method is {@link #apply(int)}.
+ *
+ * @param <R> the type of the result of the function
+ */
+@FunctionalInterface
+public interface IntFunction1<R> extends IntFunction<R>
+{
+    /**
+     * Applies this function to the given parameter and returns the result.
+     *
+     * @param param1 the input parameter to apply the function to
+     * @return the result of applying this function to the given parameter
+     */
+    @Override
+    R apply(int param1);
+
+    /**
+     * Returns a new IntFunction1 that applies the given Function1 after applying this IntFunction1.
+     *
+     * @param <V>   The return type of the given Function1.
+     * @param after The Function1 to apply after this IntFunction1.
+     * @return The composed IntFunction1.
+     * @throws NullPointerException if the given Function1 is null.
+     */
+    //implements andThen
+    default <V> IntFunction1<V> andThen(final Function1<? super R, ? extends V> after)
+    {
+        Objects.requireNonNull(after, "after is null");
+        return (int param1) -> after.apply(apply(param1));
+    }
+
+    /**
+     * Returns a curried version of the function.
+     *
+     * @return a curried version of the function
+     */
+    // implements curried
+    default IntFunction1<R> curried()
+    {
+        return this;
+    }
+}
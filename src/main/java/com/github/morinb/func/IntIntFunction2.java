@@ -0,0 +1,64 @@
+/*
+ * Copyright 2026 Baptiste MORIN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.morinb.func;
+
+import java.util.Objects;
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Represents a function that accepts two int arguments and produces an int result, without boxing.
+ * This is a functional interface whose functional method is {@link #applyAsInt(int, int)}.
+ */
+@FunctionalInterface
+public interface IntIntFunction2 extends IntBinaryOperator
+{
+    /**
+     * Applies this function to the given parameters and returns the result.
+     *
+     * @param param1 the first input parameter
+     * @param param2 the second input parameter
+     * @return the result of applying this function to the given parameters
+     */
+    @Override
+    int applyAsInt(int param1, int param2);
+
+    /**
+     * Returns a new IntIntFunction2 that applies the given operator to the result of this IntIntFunction2.
+     *
+     * @param after The operator to apply after this IntIntFunction2.
+     * @return The composed IntIntFunction2.
+     * @throws NullPointerException if the given operator is null.
+     */
+    //implements andThen
+    default IntIntFunction2 andThen(final IntUnaryOperator after)
+    {
+        Objects.requireNonNull(after, "after is null");
+        return (int param1, int param2) -> after.applyAsInt(applyAsInt(param1, param2));
+    }
+
+    /**
+     * Returns a curried version of the function.
+     *
+     * @return a curried version of the function
+     */
+    // implements curried
+    default IntFunction1<IntUnaryOperator> curried()
+    {
+        return (int param1) -> (int param2) -> applyAsInt(param1, param2);
+    }
+}
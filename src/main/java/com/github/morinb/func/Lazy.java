@@ -17,12 +17,27 @@
 package com.github.morinb.func;
 
 import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.Serial;
 import java.io.Serializable;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 import java.util.function.Supplier;
 
 /**
@@ -33,6 +48,47 @@ import java.util.function.Supplier;
  */
 public final class Lazy<T> implements Value<T>, Supplier<T>, Serializable
 {
+    /**
+     * The serial version the class had before it declared one, so that the streams written by earlier versions
+     * remain readable.
+     */
+    @Serial
+    private static final long serialVersionUID = -6385733314005657029L;
+
+    private static final VarHandle SUPPLIER;
+    private static final VarHandle WAITERS;
+
+    /**
+     * Bottom of the waiters stack while the value is being computed.
+     */
+    private static final Waiter RUNNING = new Waiter(null, null);
+
+    /**
+     * Mode comparing and hashing Lazy instances by identity, without evaluating them.
+     */
+    private static final byte IDENTITY_KEYED = 1;
+    /**
+     * Mode serializing the supplier of an unevaluated Lazy instead of evaluating it.
+     */
+    private static final byte SHIPS_SUPPLIER = 2;
+
+    static
+    {
+        try
+        {
+            final var lookup = MethodHandles.lookup();
+            SUPPLIER = lookup.findVarHandle(Lazy.class, "supplier", Supplier.class);
+            WAITERS = lookup.findVarHandle(Lazy.class, "waiters", Waiter.class);
+        } catch (final ReflectiveOperationException e)
+        {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    /**
+     * The supplier of the value, or null once the value is computed. Read with acquire semantics and cleared with
+     * release semantics, so that a thread reading null also sees the value.
+     */
     private transient Supplier<? extends T> supplier;
     /**
      * This private variable represents the value of the Lazy object.
@@ -47,14 +103,79 @@ public final class Lazy<T> implements Value<T>, Supplier<T>, Serializable
      * Once the value is computed, the supplier is set to null to indicate that the value has been computed.
      */
     private T value;
+    /**
+     * Null when no thread computes the value, otherwise the stack of the threads waiting for it, ending with
+     * {@link #RUNNING}.
+     */
+    private transient Waiter waiters;
+    /**
+     * The thread computing the value, used to detect a recursive evaluation.
+     */
+    private transient Thread owner;
+    /**
+     * Combination of {@link #IDENTITY_KEYED} and {@link #SHIPS_SUPPLIER}, 0 for the default behaviour.
+     */
+    private final byte mode;
 
     /**
      * Lazy is a class that represents a lazily evaluated value. It provides a way to defer the computation of a value until it is actually needed.
      * It implements the Value interface, the Supplier interface, and is Serializable.
      */
     private Lazy(final Supplier<? extends T> supplier)
+    {
+        this(supplier, (byte) 0);
+    }
+
+    private Lazy(final Supplier<? extends T> supplier, final byte mode)
     {
         this.supplier = supplier;
+        this.mode = mode;
+    }
+
+    /**
+     * Creates a lazily evaluated value compared and hashed by identity, so that using it as a key never evaluates
+     * it.
+     *
+     * @param supplier the supplier that provides the value
+     * @param <T>      the type of the value
+     * @return an identity-keyed Lazy instance
+     * @throws NullPointerException if the supplier is null
+     */
+    public static <T> Lazy<T> identityKeyed(final Supplier<? extends T> supplier)
+    {
+        Objects.requireNonNull(supplier, "supplier is null");
+        return new Lazy<>(supplier, IDENTITY_KEYED);
+    }
+
+    /**
+     * Creates a lazily evaluated value which, if unevaluated when serialized, is serialized with its supplier instead
+     * of being evaluated, so that the computation runs lazily on the receiving side. An evaluated value is serialized
+     * as usual.
+     *
+     * @param supplier the serializable supplier that provides the value
+     * @param <T>      the type of the value
+     * @return a Lazy instance shipping its supplier
+     * @throws NullPointerException if the supplier is null
+     */
+    public static <T> Lazy<T> serializable(final SerializableSupplier<? extends T> supplier)
+    {
+        Objects.requireNonNull(supplier, "supplier is null");
+        return new Lazy<>(supplier, SHIPS_SUPPLIER);
+    }
+
+    /**
+     * Creates a lazily evaluated value compared and hashed by identity, and serialized with its supplier while
+     * unevaluated. See {@link #identityKeyed(Supplier)} and {@link #serializable(SerializableSupplier)}.
+     *
+     * @param supplier the supplier that provides the value
+     * @param <T>      the type of the value
+     * @return an identity-keyed, serializable Lazy instance
+     * @throws NullPointerException if the supplier is null
+     */
+    public static <T> Lazy<T> identityKeyedSerializable(final SerializableSupplier<? extends T> supplier)
+    {
+        Objects.requireNonNull(supplier, "supplier is null");
+        return new Lazy<>(supplier, (byte) (IDENTITY_KEYED | SHIPS_SUPPLIER));
     }
 
     /**
@@ -79,6 +200,244 @@ public final class Lazy<T> implements Value<T>, Supplier<T>, Serializable
         }
     }
 
+    /**
+     * Creates a lazily evaluated value whose evaluation is reported under the given label by the
+     * {@code com.github.morinb.func.LazyEvaluation} Flight Recorder event. Unlabeled values are reported under the
+     * class of their supplier.
+     *
+     * @param label    the label of the value
+     * @param supplier the supplier that provides the value
+     * @param <T>      the type of the value
+     * @return a Lazy instance representing the lazily evaluated value
+     * @throws NullPointerException if the label or the supplier is null
+     */
+    public static <T> Lazy<T> labeled(final String label, final Supplier<? extends T> supplier)
+    {
+        Objects.requireNonNull(label, "label is null");
+        Objects.requireNonNull(supplier, "supplier is null");
+        return new Lazy<>(new Labeled<>(label, supplier));
+    }
+
+    /**
+     * Creates a lazily evaluated value recomputed once it is older than the given time to live.
+     * See {@link ExpiringLazy}.
+     *
+     * @param timeToLive the duration after which a computed value expires
+     * @param supplier   the supplier that provides the value
+     * @param <T>        the type of the value
+     * @return an ExpiringLazy instance
+     * @throws NullPointerException     if timeToLive or supplier is null
+     * @throws IllegalArgumentException if timeToLive is not strictly positive
+     */
+    public static <T> ExpiringLazy<T> expireAfterWrite(final Duration timeToLive, final Supplier<? extends T> supplier)
+    {
+        Objects.requireNonNull(timeToLive, "timeToLive is null");
+        Objects.requireNonNull(supplier, "supplier is null");
+        if (timeToLive.isNegative() || timeToLive.isZero())
+        {
+            throw new IllegalArgumentException("timeToLive must be strictly positive");
+        }
+        return new ExpiringLazy<>(supplier, timeToLive.toNanos(), 0L, DefaultExecutor.get(), System::nanoTime);
+    }
+
+    /**
+     * Creates a lazily evaluated value that the garbage collector may reclaim under memory pressure, to be
+     * recomputed by the next read. See {@link SoftLazy}.
+     *
+     * @param supplier the supplier that provides the value
+     * @param <T>      the type of the value
+     * @return a SoftLazy instance
+     * @throws NullPointerException if the supplier is null
+     */
+    public static <T> SoftLazy<T> soft(final Supplier<? extends T> supplier)
+    {
+        Objects.requireNonNull(supplier, "supplier is null");
+        return new SoftLazy<>(supplier);
+    }
+
+    /**
+     * Creates a lazily evaluated value computed asynchronously on the default executor, whose concurrent callers
+     * share the same in-flight computation. See {@link AsyncLazy}.
+     *
+     * @param supplier the supplier that provides the value
+     * @param <T>      the type of the value
+     * @return an AsyncLazy instance
+     * @throws NullPointerException if the supplier is null
+     */
+    public static <T> AsyncLazy<T> async(final Supplier<? extends T> supplier)
+    {
+        return async(supplier, DefaultExecutor.get());
+    }
+
+    /**
+     * Creates a lazily evaluated value computed asynchronously on the given executor, whose concurrent callers
+     * share the same in-flight computation. See {@link AsyncLazy}.
+     *
+     * @param supplier the supplier that provides the value
+     * @param executor the executor running the supplier
+     * @param <T>      the type of the value
+     * @return an AsyncLazy instance
+     * @throws NullPointerException if the supplier or the executor is null
+     */
+    public static <T> AsyncLazy<T> async(final Supplier<? extends T> supplier, final Executor executor)
+    {
+        Objects.requireNonNull(supplier, "supplier is null");
+        Objects.requireNonNull(executor, "executor is null");
+        return new AsyncLazy<>(supplier, executor);
+    }
+
+    /**
+     * Creates a Lazy combining the values of two independent Lazy instances. On evaluation, the unevaluated ones
+     * are evaluated concurrently, see {@link #parGet(Iterable)}.
+     *
+     * @param first    the first Lazy
+     * @param second   the second Lazy
+     * @param combiner the function combining the values
+     * @param <T1>     the type of the first value
+     * @param <T2>     the type of the second value
+     * @param <R>      the type of the combined value
+     * @return a Lazy of the combined value
+     * @throws NullPointerException if first, second or combiner is null
+     */
+    public static <T1, T2, R> Lazy<R> zip(final Lazy<? extends T1> first,
+                                          final Lazy<? extends T2> second,
+                                          final Function2<? super T1, ? super T2, ? extends R> combiner)
+    {
+        Objects.requireNonNull(first, "first is null");
+        Objects.requireNonNull(second, "second is null");
+        Objects.requireNonNull(combiner, "combiner is null");
+        return Lazy.of(() ->
+        {
+            parGet(List.of(first, second));
+            return combiner.apply(first.get(), second.get());
+        });
+    }
+
+    /**
+     * Creates a Lazy of the values of the given independent Lazy instances, in order. On evaluation, the
+     * unevaluated ones are evaluated concurrently, see {@link #parGet(Iterable)}.
+     *
+     * @param lazies the Lazy instances
+     * @param <T>    the type of the values
+     * @return a Lazy of the list of the values
+     * @throws NullPointerException if lazies is null
+     */
+    public static <T> Lazy<FList<T>> sequence(final FList<? extends Lazy<? extends T>> lazies)
+    {
+        Objects.requireNonNull(lazies, "lazies is null");
+        return Lazy.of(() ->
+        {
+            final var elements = new ArrayList<Lazy<? extends T>>();
+            for (var list = lazies; !list.isEmpty(); list = list.tail())
+            {
+                elements.add(list.head());
+            }
+            parGet(elements);
+            final var values = new ArrayList<T>(elements.size());
+            for (final Lazy<? extends T> lazy : elements)
+            {
+                values.add(lazy.get());
+            }
+            return FList.of(values);
+        });
+    }
+
+    /**
+     * Evaluates the given independent Lazy instances concurrently, so that it takes as long as the slowest
+     * supplier. See {@link #parGet(Iterable)}.
+     *
+     * @param lazies the Lazy instances to evaluate
+     * @throws NullPointerException if lazies is null
+     */
+    public static void parGet(final Lazy<?>... lazies)
+    {
+        Objects.requireNonNull(lazies, "lazies is null");
+        parGet(Arrays.asList(lazies));
+    }
+
+    /**
+     * Evaluates the given independent Lazy instances concurrently, so that it takes as long as the slowest
+     * supplier.
+     * <p>
+     * All the unevaluated instances but the last one are evaluated on the default executor, which uses virtual
+     * threads when the runtime provides them; the last one is evaluated on the calling thread. The exception thrown
+     * by a supplier, if any, is rethrown once every evaluation has completed, wrapped in an IllegalStateException if
+     * it is a checked exception.
+     *
+     * @param lazies the Lazy instances to evaluate
+     * @throws NullPointerException if lazies is null
+     */
+    public static void parGet(final Iterable<? extends Lazy<?>> lazies)
+    {
+        Objects.requireNonNull(lazies, "lazies is null");
+        final var pending = new ArrayList<Lazy<?>>();
+        for (final Lazy<?> lazy : lazies)
+        {
+            if (!lazy.isEvaluated())
+            {
+                pending.add(lazy);
+            }
+        }
+        if (pending.isEmpty())
+        {
+            return;
+        }
+        final var tasks = new ArrayList<FutureTask<Object>>(pending.size() - 1);
+        for (final Lazy<?> lazy : pending.subList(0, pending.size() - 1))
+        {
+            final var task = new FutureTask<Object>(lazy::get);
+            tasks.add(task);
+            DefaultExecutor.get().execute(Deadline.propagate(task));
+        }
+        RuntimeException failure = null;
+        try
+        {
+            pending.get(pending.size() - 1).get();
+        } catch (final RuntimeException e)
+        {
+            failure = e;
+        } catch (final Exception e)
+        {
+            failure = new IllegalStateException(e);
+        }
+        var interrupted = false;
+        for (final FutureTask<Object> task : tasks)
+        {
+            while (true)
+            {
+                try
+                {
+                    task.get();
+                    break;
+                } catch (final InterruptedException e)
+                {
+                    interrupted = true;
+                } catch (final ExecutionException e)
+                {
+                    if (e.getCause() instanceof final Error error)
+                    {
+                        throw error;
+                    }
+                    if (failure == null)
+                    {
+                        failure = e.getCause() instanceof final RuntimeException runtime
+                                ? runtime
+                                : new IllegalStateException(e.getCause());
+                    }
+                    break;
+                }
+            }
+        }
+        if (interrupted)
+        {
+            Thread.currentThread().interrupt();
+        }
+        if (failure != null)
+        {
+            throw failure;
+        }
+    }
+
     /**
      * Retrieves the value of the Lazy object.
      * If the Lazy object was initialized with a supplier, the value is computed lazily and cached.
@@ -89,24 +448,271 @@ public final class Lazy<T> implements Value<T>, Supplier<T>, Serializable
     @Override
     public T get()
     {
-        return (supplier == null) ? value : computeValue();
+        return SUPPLIER.getAcquire(this) == null ? value : computeValue();
     }
 
     /**
      * Computes and returns the value of the Lazy instance. If the value has not been computed yet, it will be computed using the supplier provided during instantiation.
      * Once the value is computed, it will be stored in the Lazy instance and the supplier will be set to null to indicate that the value has been computed.
+     * <p>
+     * The first thread claims the computation with a compare-and-set; the others park until it completes, without
+     * holding a monitor. If the supplier throws, the waiting threads are woken and the next one retries.
      *
      * @return the computed value
+     * @throws IllegalStateException if the supplier evaluates this Lazy recursively
      */
-    private synchronized T computeValue()
+    @SuppressWarnings("unchecked")
+    private T computeValue()
     {
-        final Supplier<? extends T> supp = supplier;
-        if (supp != null)
+        var interrupted = false;
+        try
+        {
+            while (true)
+            {
+                final var supp = (Supplier<? extends T>) SUPPLIER.getAcquire(this);
+                if (supp == null)
+                {
+                    return value;
+                }
+                final var head = (Waiter) WAITERS.getAcquire(this);
+                if (head == null)
+                {
+                    if (WAITERS.compareAndSet(this, null, RUNNING))
+                    {
+                        return evaluate();
+                    }
+                }
+                else
+                {
+                    if (owner == Thread.currentThread())
+                    {
+                        throw new IllegalStateException("Recursive evaluation of Lazy");
+                    }
+                    final var node = new Waiter(Thread.currentThread(), head);
+                    if (WAITERS.compareAndSet(this, head, node))
+                    {
+                        if (LazyMetrics.ENABLED)
+                        {
+                            LazyMetrics.recordWait();
+                        }
+                        while (!node.released)
+                        {
+                            LockSupport.park(this);
+                            interrupted |= Thread.interrupted();
+                        }
+                    }
+                }
+            }
+        } finally
         {
-            value = supp.get();
-            supplier = null;
+            if (interrupted)
+            {
+                Thread.currentThread().interrupt();
+            }
         }
-        return value;
+    }
+
+    /**
+     * Computes the value once the computation is claimed, then wakes the waiting threads.
+     * The supplier is read again, as another thread may have completed the computation since it was last read.
+     *
+     * @return the computed value
+     */
+    @SuppressWarnings("unchecked")
+    private T evaluate()
+    {
+        owner = Thread.currentThread();
+        final var supp = (Supplier<? extends T>) SUPPLIER.getAcquire(this);
+        if (supp == null)
+        {
+            release();
+            return value;
+        }
+        final var event = LazyEvents.isEnabled() ? LazyEvents.begin() : null;
+        final var start = LazyMetrics.ENABLED ? System.nanoTime() : 0L;
+        var failed = true;
+        try
+        {
+            final T result;
+            if (supp instanceof final Link<?, ?> link)
+            {
+                result = (T) evaluateChain(link);
+            }
+            else
+            {
+                result = supp.get();
+            }
+            complete(result);
+            failed = false;
+            return result;
+        } finally
+        {
+            final var commit = event != null && LazyEvents.end(event);
+            final var waiters = release();
+            if (commit)
+            {
+                LazyEvents.commit(event, label(supp), waiters, failed);
+            }
+            if (LazyMetrics.ENABLED)
+            {
+                LazyMetrics.recordEvaluation(System.nanoTime() - start, failed);
+            }
+        }
+    }
+
+    /**
+     * Returns the label of the given supplier for the evaluation events.
+     *
+     * @param supp the supplier
+     * @return the label given to the Lazy, or the class of the supplier or mapper
+     */
+    private static String label(final Supplier<?> supp)
+    {
+        if (supp instanceof final Labeled<?> labeled)
+        {
+            return labeled.label();
+        }
+        if (supp instanceof final Link<?, ?> link)
+        {
+            return link.mapper().getClass().getName();
+        }
+        return supp.getClass().getName();
+    }
+
+    /**
+     * Evaluates a chain of map and flatMap links iteratively: the unevaluated links are claimed from this one down
+     * to the first evaluated or plain Lazy, then their mappers are applied back up, each link being completed in
+     * turn so that it stops retaining the links below it. The Lazy returned by a flatMap mapper is walked down the
+     * same way, so that a recursively defined flatMap does not grow the stack either.
+     *
+     * @param link the link of this Lazy, already claimed
+     * @return the value of this Lazy
+     */
+    @SuppressWarnings("unchecked")
+    private static Object evaluateChain(final Link<?, ?> link)
+    {
+        final var pending = new ArrayDeque<Step>();
+        pending.push(new Step(null, link, false));
+        try
+        {
+            var source = (Lazy<Object>) link.source();
+            while (true)
+            {
+                var result = descend(source, pending);
+                while (true)
+                {
+                    final var step = pending.peek();
+                    if (!step.inner())
+                    {
+                        final var mapped = ((Function1<Object, ?>) step.link().mapper()).apply(result);
+                        if (step.link().flat())
+                        {
+                            pending.pop();
+                            pending.push(new Step(step.lazy(), step.link(), true));
+                            source = (Lazy<Object>) mapped;
+                            break;
+                        }
+                        result = mapped;
+                    }
+                    pending.pop();
+                    if (step.lazy() == null)
+                    {
+                        return result;
+                    }
+                    step.lazy().complete(result);
+                    step.lazy().release();
+                }
+            }
+        } finally
+        {
+            for (final Step step : pending)
+            {
+                if (step.lazy() != null)
+                {
+                    step.lazy().release();
+                }
+            }
+        }
+    }
+
+    /**
+     * Claims the unevaluated links from the given Lazy down to the first evaluated or plain Lazy, pushing them on the
+     * given steps, and returns the value of that last Lazy.
+     *
+     * @param source  the Lazy to evaluate
+     * @param pending the steps left to apply, to which the claimed links are pushed
+     * @return the value of the first evaluated or plain Lazy of the chain
+     */
+    @SuppressWarnings("unchecked")
+    private static Object descend(final Lazy<Object> source, final Deque<Step> pending)
+    {
+        var lazy = source;
+        while (true)
+        {
+            final var supp = SUPPLIER.getAcquire(lazy);
+            if (supp == null)
+            {
+                return lazy.value;
+            }
+            if (!(supp instanceof Link) || !lazy.claim())
+            {
+                return lazy.get();
+            }
+            final var next = SUPPLIER.getAcquire(lazy);
+            if (next == null)
+            {
+                lazy.release();
+                return lazy.value;
+            }
+            pending.push(new Step(lazy, (Link<?, ?>) next, false));
+            lazy = (Lazy<Object>) ((Link<?, ?>) next).source();
+        }
+    }
+
+    /**
+     * Claims the computation of the value, if no thread has claimed it.
+     *
+     * @return true if the calling thread now owns the computation, false otherwise
+     */
+    private boolean claim()
+    {
+        if (WAITERS.compareAndSet(this, null, RUNNING))
+        {
+            owner = Thread.currentThread();
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Publishes the computed value. Must be called by the thread owning the computation.
+     *
+     * @param result the computed value
+     */
+    private void complete(final T result)
+    {
+        value = result;
+        SUPPLIER.setRelease(this, null);
+    }
+
+    /**
+     * Gives up the ownership of the computation and wakes the waiting threads.
+     *
+     * @return the number of threads woken
+     */
+    private int release()
+    {
+        owner = null;
+        var woken = 0;
+        var node = (Waiter) WAITERS.getAndSet(this, null);
+        while (node != RUNNING)
+        {
+            node.released = true;
+            LockSupport.unpark(node.thread);
+            node = node.next;
+            woken++;
+        }
+        return woken;
     }
 
     /**
@@ -127,21 +733,68 @@ public final class Lazy<T> implements Value<T>, Supplier<T>, Serializable
      */
     public boolean isEvaluated()
     {
-        return (supplier == null);
+        return SUPPLIER.getAcquire(this) == null;
     }
 
     /**
      * Applies the given mapper function to the value of this Lazy and returns a new Lazy that represents
      * the result of the mapping operation.
+     * <p>
+     * Chains of map and flatMap are evaluated iteratively, whatever their length.
      *
      * @param <U>    the type of the resulting Lazy value
      * @param mapper the function to apply to the value of this Lazy
      * @return a new Lazy representing the result of the mapping operation
      */
     @Override
-    public <U> Value<U> map(final Function1<? super T, ? extends U> mapper)
+    public <U> Lazy<U> map(final Function1<? super T, ? extends U> mapper)
     {
-        return Lazy.of(() -> mapper.apply(get()));
+        Objects.requireNonNull(mapper, "mapper is null");
+        return new Lazy<>(new Link<T, U>(this, mapper, false));
+    }
+
+    /**
+     * Applies the given mapper function to the value of this Lazy and returns a new Lazy evaluating to the value
+     * of the Lazy returned by the mapper.
+     * <p>
+     * Chains of map and flatMap are evaluated iteratively, whatever their length, the chain of the Lazy returned by
+     * the mapper included, so that a recursively defined flatMap does not grow the stack.
+     *
+     * @param <U>    the type of the resulting Lazy value
+     * @param mapper the function returning a Lazy from the value of this Lazy
+     * @return a new Lazy representing the result of the mapping operation
+     */
+    public <U> Lazy<U> flatMap(final Function1<? super T, ? extends Lazy<? extends U>> mapper)
+    {
+        Objects.requireNonNull(mapper, "mapper is null");
+        return new Lazy<>(new Link<T, U>(this, mapper, true));
+    }
+
+    @Override
+    public boolean contains(final T value)
+    {
+        return Objects.equals(get(), value);
+    }
+
+    @Override
+    public boolean exists(final Predicate<? super T> predicate)
+    {
+        Objects.requireNonNull(predicate, "predicate is null");
+        return predicate.test(get());
+    }
+
+    @Override
+    public boolean forAll(final Predicate<? super T> predicate)
+    {
+        Objects.requireNonNull(predicate, "predicate is null");
+        return predicate.test(get());
+    }
+
+    @Override
+    public void forEach(final Consumer<? super T> action)
+    {
+        Objects.requireNonNull(action, "action is null");
+        action.accept(get());
     }
 
     /**
@@ -158,6 +811,8 @@ public final class Lazy<T> implements Value<T>, Supplier<T>, Serializable
     /**
      * Compares this Lazy object with the specified object for equality. Returns true if and only if the specified object is also a Lazy object, both objects have the same value (
      *result of invoking the `get` method), and both objects are either both evaluated or both unevaluated.
+     * <p>
+     * If either object is identity-keyed, they are only equal if they are the same instance.
      *
      * @param o the object to be compared for equality with this Lazy object
      * @return true if the specified object is equal to this Lazy object, false otherwise
@@ -165,18 +820,27 @@ public final class Lazy<T> implements Value<T>, Supplier<T>, Serializable
     @Override
     public boolean equals(final Object o)
     {
-     return (o == this) || (o instanceof Lazy && Objects.equals(((Lazy<?>) o).get(), get()));
+        if (o == this)
+        {
+            return true;
+        }
+        if (!(o instanceof final Lazy<?> other) || ((mode | other.mode) & IDENTITY_KEYED) != 0)
+        {
+            return false;
+        }
+        return Objects.equals(other.get(), get());
     }
 
     /**
      * Computes the hash code for this Lazy instance.
+     * An identity-keyed Lazy is not evaluated and returns its identity hash code.
      *
      * @return the hash code value for this Lazy instance
      */
     @Override
     public int hashCode()
     {
-        return Objects.hashCode(get());
+        return (mode & IDENTITY_KEYED) != 0 ? System.identityHashCode(this) : Objects.hashCode(get());
     }
 
     /**
@@ -200,7 +864,121 @@ public final class Lazy<T> implements Value<T>, Supplier<T>, Serializable
     @Serial
     private void writeObject(final ObjectOutputStream objectOutputStream) throws IOException
     {
-        get();
-        objectOutputStream.defaultWriteObject();
+        if ((mode & SHIPS_SUPPLIER) == 0)
+        {
+            get();
+            objectOutputStream.defaultWriteObject();
+        }
+        else
+        {
+            final var supp = SUPPLIER.getAcquire(this);
+            objectOutputStream.defaultWriteObject();
+            objectOutputStream.writeObject(supp);
+        }
+    }
+
+    /**
+     * Reads the object represented by this Lazy from an ObjectInputStream, restoring the supplier of an
+     * unevaluated Lazy shipping it. A stream written before the modes were introduced has no mode and is read as a
+     * plain evaluated Lazy.
+     *
+     * @param objectInputStream The ObjectInputStream to read the object from.
+     * @throws IOException            If an I/O error occurs while reading from the ObjectInputStream.
+     * @throws ClassNotFoundException If the class of a serialized object cannot be found.
+     */
+    @Serial
+    @SuppressWarnings("unchecked")
+    private void readObject(final ObjectInputStream objectInputStream) throws IOException, ClassNotFoundException
+    {
+        objectInputStream.defaultReadObject();
+        if ((mode & SHIPS_SUPPLIER) != 0)
+        {
+            supplier = (Supplier<? extends T>) objectInputStream.readObject();
+        }
+    }
+
+    /**
+     * A supplier which is serializable, so that a lambda targeting it can be shipped with an unevaluated Lazy.
+     *
+     * @param <T> the type of the value
+     */
+    @FunctionalInterface
+    public interface SerializableSupplier<T> extends Supplier<T>, Serializable
+    {
+    }
+
+    /**
+     * The supplier of a Lazy created by {@link #map(Function1)} or {@link #flatMap(Function1)}, recognized by the
+     * evaluation to walk the chain iteratively.
+     *
+     * @param source the Lazy being mapped
+     * @param mapper the mapping function
+     * @param flat   whether the mapper returns a Lazy to evaluate
+     * @param <S>    the type of the source value
+     * @param <U>    the type of the mapped value
+     */
+    private record Link<S, U>(Lazy<S> source, Function1<? super S, ?> mapper, boolean flat) implements Supplier<U>
+    {
+        @Override
+        public U get()
+        {
+            return apply(source.get());
+        }
+
+        /**
+         * Applies the mapper to the given source value.
+         *
+         * @param sourceValue the value of the source
+         * @return the mapped value
+         */
+        @SuppressWarnings("unchecked")
+        U apply(final Object sourceValue)
+        {
+            final var mapped = mapper.apply((S) sourceValue);
+            return flat ? ((Lazy<? extends U>) mapped).get() : (U) mapped;
+        }
+    }
+
+    /**
+     * A claimed link left to apply while evaluating a chain.
+     *
+     * @param lazy  the claimed Lazy to complete, or null for the Lazy being evaluated
+     * @param link  the link of the Lazy
+     * @param inner whether the mapper was applied and the step awaits the value of the Lazy it returned
+     */
+    private record Step(Lazy<Object> lazy, Link<?, ?> link, boolean inner)
+    {
+    }
+
+    /**
+     * The supplier of a Lazy created by {@link #labeled(String, Supplier)}.
+     *
+     * @param label    the label reported by the evaluation events
+     * @param supplier the supplier of the value
+     * @param <T>      the type of the value
+     */
+    private record Labeled<T>(String label, Supplier<? extends T> supplier) implements Supplier<T>
+    {
+        @Override
+        public T get()
+        {
+            return supplier.get();
+        }
+    }
+
+    /**
+     * A thread waiting for the value, linked to the threads which started waiting before it.
+     */
+    private static final class Waiter
+    {
+        private final Thread thread;
+        private final Waiter next;
+        private volatile boolean released;
+
+        Waiter(final Thread thread, final Waiter next)
+        {
+            this.thread = thread;
+            this.next = next;
+        }
     }
 }
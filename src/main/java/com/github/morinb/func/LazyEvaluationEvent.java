@@ -0,0 +1,49 @@
+/*
+ * Copyright 2026 Baptiste MORIN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.morinb.func;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event emitted when a {@link Lazy} computes its value.
+ * <p>
+ * The event is disabled unless enabled by the recording settings, in which case creating it costs nothing once
+ * compiled. Its duration is the one of the supplier.
+ */
+@Name("com.github.morinb.func.LazyEvaluation")
+@Label("Lazy Evaluation")
+@Category("func")
+@Description("Computation of the value of a Lazy")
+@StackTrace(false)
+final class LazyEvaluationEvent extends jdk.jfr.Event
+{
+    @Label("Label")
+    @Description("Label of the Lazy, or class of its supplier")
+    String label;
+
+    @Label("Waiters")
+    @Description("Number of threads that waited for the value")
+    int waiters;
+
+    @Label("Failed")
+    @Description("Whether the supplier threw an exception")
+    boolean failed;
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2026 Baptiste MORIN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.morinb.func;
+
+import jdk.jfr.EventType;
+
+/**
+ * Emits the {@link LazyEvaluationEvent} of the {@link Lazy} evaluations.
+ * <p>
+ * The Flight Recorder classes are only referenced from this class, which {@link Lazy} uses once
+ * {@link #isEnabled()} returned true, so that Lazy still works on a runtime image without the {@code jdk.jfr}
+ * module. The events are passed around as plain objects for the same reason.
+ */
+final class LazyEvents
+{
+    /**
+     * Whether the {@code jdk.jfr} module is present in the runtime.
+     */
+    private static final boolean AVAILABLE = ModuleLayer.boot().findModule("jdk.jfr").isPresent();
+
+    private LazyEvents()
+    {
+    }
+
+    /**
+     * Checks if a running recording enables the evaluation events, so that no event is created otherwise.
+     *
+     * @return true if the evaluation events are recorded, false otherwise
+     */
+    static boolean isEnabled()
+    {
+        return AVAILABLE && Type.EVENT_TYPE.isEnabled();
+    }
+
+    /**
+     * Creates an evaluation event and starts its timing.
+     *
+     * @return the event
+     */
+    static Object begin()
+    {
+        final var event = new LazyEvaluationEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Ends the timing of the given event.
+     *
+     * @param event the event returned by {@link #begin()}
+     * @return true if the event should be committed, false otherwise
+     */
+    static boolean end(final Object event)
+    {
+        final var evaluation = (LazyEvaluationEvent) event;
+        evaluation.end();
+        return evaluation.shouldCommit();
+    }
+
+    /**
+     * Commits the given event.
+     *
+     * @param event   the event returned by {@link #begin()}
+     * @param label   the label of the Lazy
+     * @param waiters the number of threads that waited for the value
+     * @param failed  whether the supplier threw an exception
+     */
+    static void commit(final Object event, final String label, final int waiters, final boolean failed)
+    {
+        final var evaluation = (LazyEvaluationEvent) event;
+        evaluation.label = label;
+        evaluation.waiters = waiters;
+        evaluation.failed = failed;
+        evaluation.commit();
+    }
+
+    /**
+     * Holds the type of the evaluation events, looked up on first use only, once the module is known to be present.
+     */
+    private static final class Type
+    {
+        private static final EventType EVENT_TYPE = EventType.getEventType(LazyEvaluationEvent.class);
+    }
+}
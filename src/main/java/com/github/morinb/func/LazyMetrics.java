@@ -0,0 +1,132 @@
+/*
+ * Copyright 2026 Baptiste MORIN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.morinb.func;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters of the evaluations of {@link Lazy} values.
+ * <p>
+ * The counters are only maintained when the system property {@value #PROPERTY} is set to {@code true} at startup.
+ * The property is read once, so that the disabled counters cost nothing once compiled.
+ */
+public final class LazyMetrics
+{
+    /**
+     * Name of the system property enabling the counters.
+     */
+    public static final String PROPERTY = "com.github.morinb.func.lazyMetrics";
+
+    /**
+     * Whether the counters are maintained.
+     */
+    static final boolean ENABLED = Boolean.getBoolean(PROPERTY);
+
+    private static final LongAdder EVALUATIONS = new LongAdder();
+    private static final LongAdder FAILURES = new LongAdder();
+    private static final LongAdder WAITS = new LongAdder();
+    private static final LongAdder COMPUTE_NANOS = new LongAdder();
+
+    private LazyMetrics()
+    {
+    }
+
+    /**
+     * Checks if the counters are maintained.
+     *
+     * @return true if the counters are maintained, false otherwise
+     */
+    public static boolean isEnabled()
+    {
+        return ENABLED;
+    }
+
+    /**
+     * Returns the number of suppliers run, failed ones included.
+     *
+     * @return the number of evaluations
+     */
+    public static long evaluations()
+    {
+        return EVALUATIONS.sum();
+    }
+
+    /**
+     * Returns the number of suppliers which threw an exception.
+     *
+     * @return the number of failed evaluations
+     */
+    public static long failures()
+    {
+        return FAILURES.sum();
+    }
+
+    /**
+     * Returns the number of times a thread waited for a value computed by another thread.
+     *
+     * @return the number of waits
+     */
+    public static long waits()
+    {
+        return WAITS.sum();
+    }
+
+    /**
+     * Returns the total time spent running suppliers.
+     *
+     * @return the total compute time, in nanoseconds
+     */
+    public static long computeNanos()
+    {
+        return COMPUTE_NANOS.sum();
+    }
+
+    /**
+     * Resets all the counters.
+     */
+    public static void reset()
+    {
+        EVALUATIONS.reset();
+        FAILURES.reset();
+        WAITS.reset();
+        COMPUTE_NANOS.reset();
+    }
+
+    /**
+     * Records an evaluation.
+     *
+     * @param nanos  the time spent running the supplier
+     * @param failed whether the supplier threw an exception
+     */
+    static void recordEvaluation(final long nanos, final boolean failed)
+    {
+        EVALUATIONS.increment();
+        COMPUTE_NANOS.add(nanos);
+        if (failed)
+        {
+            FAILURES.increment();
+        }
+    }
+
+    /**
+     * Records a thread waiting for a value.
+     */
+    static void recordWait()
+    {
+        WAITS.increment();
+    }
+}
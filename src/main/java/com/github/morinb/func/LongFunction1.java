@@ -0,0 +1,65 @@
+/*
+ * Copyright 2026 Baptiste MORIN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.morinb.func;
+
+import java.util.Objects;
+import java.util.function.LongFunction;
+
+/**
+ * Represents a function that accepts a long argument and produces a result, without boxing the argument.
+ * This is a functional interface whose functional method is {@link #apply(long)}.
+ *
+ * @param <R> the type of the result of the function
+ */
+@FunctionalInterface
+public interface LongFunction1<R> extends LongFunction<R>
+{
+    /**
+     * Applies this function to the given parameter and returns the result.
+     *
+     * @param param1 the input parameter to apply the function to
+     * @return the result of applying this function to the given parameter
+     */
+    @Override
+    R apply(long param1);
+
+    /**
+     * Returns a new LongFunction1 that applies the given Function1 after applying this LongFunction1.
+     *
+     * @param <V>   The return type of the given Function1.
+     * @param after The Function1 to apply after this LongFunction1.
+     * @return The composed LongFunction1.
+     * @throws NullPointerException if the given Function1 is null.
+     */
+    //implements andThen
+    default <V> LongFunction1<V> andThen(final Function1<? super R, ? extends V> after)
+    {
+        Objects.requireNonNull(after, "after is null");
+        return (long param1) -> after.apply(apply(param1));
+    }
+
+    /**
+     * Returns a curried version of the function.
+     *
+     * @return a curried version of the function
+     */
+    // implements curried
+    default LongFunction1<R> curried()
+    {
+        return this;
+    }
+}
@@ -0,0 +1,204 @@
+/*
+ * Copyright 2026 Baptiste MORIN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.morinb.func;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Iterator over the lines of a file read through memory-mapped windows.
+ * <p>
+ * Only one window of the file is mapped at a time, so that the memory used does not depend on the size of the file.
+ * A window is widened when a single line does not fit in it, up to {@value #MAX_WINDOW} bytes. Lines are separated
+ * by {@code \n} or {@code \r\n}.
+ * <p>
+ * Closing releases the file channel but not the mapped windows, which are only unmapped once garbage collected.
+ */
+final class MappedLines implements Iterator<String>, AutoCloseable
+{
+    /**
+     * Size of the mapped windows, in bytes.
+     */
+    static final int DEFAULT_WINDOW = 1 << 26;
+
+    /**
+     * Maximum size of a mapped window, in bytes, which bounds the length of a line.
+     */
+    static final int MAX_WINDOW = Integer.MAX_VALUE - 8;
+
+    private final FileChannel channel;
+    private final Charset charset;
+    private final long size;
+    private final int maxWindow;
+    private int window;
+    private MappedByteBuffer buffer;
+    private long bufferStart;
+    private long position;
+    private String next;
+
+    /**
+     * Opens the given file.
+     *
+     * @param path    the file to read
+     * @param charset the charset of the file
+     * @param window  the size of the mapped windows, in bytes
+     * @throws IOException if the file cannot be opened
+     */
+    MappedLines(final Path path, final Charset charset, final int window) throws IOException
+    {
+        this(path, charset, window, MAX_WINDOW);
+    }
+
+    /**
+     * Opens the given file, bounding the length of a line.
+     *
+     * @param path      the file to read
+     * @param charset   the charset of the file
+     * @param window    the size of the mapped windows, in bytes
+     * @param maxWindow the maximum size of a mapped window, in bytes
+     * @throws IOException if the file cannot be opened
+     */
+    MappedLines(final Path path, final Charset charset, final int window, final int maxWindow) throws IOException
+    {
+        this.maxWindow = maxWindow;
+        this.channel = FileChannel.open(path, StandardOpenOption.READ);
+        this.charset = charset;
+        this.window = window;
+        try
+        {
+            this.size = channel.size();
+        } catch (final IOException e)
+        {
+            channel.close();
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean hasNext()
+    {
+        if (next == null && position < size)
+        {
+            try
+            {
+                next = readLine();
+            } catch (final IOException e)
+            {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return next != null;
+    }
+
+    @Override
+    public String next()
+    {
+        if (!hasNext())
+        {
+            throw new NoSuchElementException("No more lines");
+        }
+        final var line = next;
+        next = null;
+        return line;
+    }
+
+    /**
+     * Closes the file channel and drops the current window, which stays mapped until it is garbage collected, as
+     * the JDK offers no way to unmap a buffer.
+     *
+     * @throws IOException if the channel cannot be closed
+     */
+    @Override
+    public void close() throws IOException
+    {
+        buffer = null;
+        channel.close();
+    }
+
+    /**
+     * Reads the line starting at the current position.
+     *
+     * @return the line, without its terminator
+     * @throws IOException if the file cannot be mapped, or if the line does not fit in the maximum window
+     */
+    private String readLine() throws IOException
+    {
+        if (buffer == null || position >= bufferStart + buffer.limit())
+        {
+            map();
+        }
+        while (true)
+        {
+            final var from = (int) (position - bufferStart);
+            for (var i = from; i < buffer.limit(); i++)
+            {
+                if (buffer.get(i) == '\n')
+                {
+                    position = bufferStart + i + 1;
+                    return decode(from, i);
+                }
+            }
+            if (bufferStart + buffer.limit() == size)
+            {
+                position = size;
+                return decode(from, buffer.limit());
+            }
+            if (from == 0)
+            {
+                if (window >= maxWindow)
+                {
+                    throw new IOException("Line longer than " + maxWindow + " bytes at offset " + position);
+                }
+                window = (int) Math.min(2L * window, maxWindow);
+            }
+            map();
+        }
+    }
+
+    /**
+     * Maps the window starting at the current position.
+     *
+     * @throws IOException if the file cannot be mapped
+     */
+    private void map() throws IOException
+    {
+        bufferStart = position;
+        buffer = channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(window, size - position));
+    }
+
+    /**
+     * Decodes the bytes of the current window between the given offsets, ignoring a trailing {@code \r}.
+     *
+     * @param from the offset of the first byte
+     * @param to   the offset after the last byte
+     * @return the decoded line
+     */
+    private String decode(final int from, final int to)
+    {
+        final var end = to > from && buffer.get(to - 1) == '\r' ? to - 1 : to;
+        final var bytes = new byte[end - from];
+        buffer.get(from, bytes);
+        return new String(bytes, charset);
+    }
+}
@@ -0,0 +1,422 @@
+/*
+ * Copyright 2026 Baptiste MORIN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.morinb.func;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * Bounded concurrent cache of function results, used by the {@code memoized} methods of the function types.
+ * <p>
+ * Keys are spread over independently locked stripes, each evicting its least recently used entry once full, so
+ * that the cache never holds more than its maximum size. The eviction order is thus only approximately least
+ * recently used across stripes. Entries may expire a given time after being written.
+ * Concurrent lookups of a missing key share a single evaluation of the loader. Hits, misses and evictions are
+ * counted.
+ * <p>
+ * The locks are never held while a loader runs, and are {@link ReentrantLock}s, which do not pin virtual threads.
+ * <p>
+ * A loader looking up its own key, for example a memoized function calling itself with the same parameters, fails
+ * with an IllegalStateException instead of waiting for itself forever. Loaders of different threads looking up each
+ * other's keys are not detected, and must be avoided.
+ *
+ * @param <V> the type of the cached values
+ */
+public final class MemoCache<V>
+{
+    /**
+     * Maximum size of the caches created by the {@code memoized()} methods of the functions taking parameters.
+     */
+    public static final int DEFAULT_MAXIMUM_SIZE = 1024;
+
+    /**
+     * Minimum capacity of a stripe, so that small caches keep a single, exact least recently used order.
+     */
+    private static final int MIN_STRIPE_CAPACITY = 64;
+
+    private final Stripe<V>[] stripes;
+    private final long timeToLive;
+    private final LongSupplier clock;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Creates a MemoCache.
+     *
+     * @param maximumSize the maximum number of entries
+     * @param timeToLive  the time to live of an entry, in nanoseconds, 0 for no expiry
+     * @param clock       the source of nanosecond time
+     */
+    @SuppressWarnings("unchecked")
+    MemoCache(final int maximumSize, final long timeToLive, final LongSupplier clock)
+    {
+        final var wanted = Integer.highestOneBit(Math.max(1, Runtime.getRuntime().availableProcessors()) * 2);
+        final var count = Math.min(wanted, Integer.highestOneBit(Math.max(1, maximumSize / MIN_STRIPE_CAPACITY)));
+        this.stripes = (Stripe<V>[]) new Stripe<?>[count];
+        for (var i = 0; i < count; i++)
+        {
+            stripes[i] = new Stripe<>(maximumSize / count + (i < maximumSize % count ? 1 : 0), evictions);
+        }
+        this.timeToLive = timeToLive;
+        this.clock = clock;
+    }
+
+    /**
+     * Creates a cache holding at most the given number of entries, evicting the least recently used ones.
+     *
+     * @param maximumSize the maximum number of entries
+     * @param <V>         the type of the cached values
+     * @return a new cache
+     * @throws IllegalArgumentException if maximumSize is not strictly positive
+     */
+    public static <V> MemoCache<V> lru(final int maximumSize)
+    {
+        if (maximumSize <= 0)
+        {
+            throw new IllegalArgumentException("maximumSize must be strictly positive");
+        }
+        return new MemoCache<>(maximumSize, 0L, System::nanoTime);
+    }
+
+    /**
+     * Creates a cache holding at most the given number of entries, evicting the least recently used ones, and
+     * discarding an entry once the given time has elapsed since it was written.
+     *
+     * @param maximumSize the maximum number of entries
+     * @param timeToLive  the time to live of an entry
+     * @param <V>         the type of the cached values
+     * @return a new cache
+     * @throws NullPointerException     if timeToLive is null
+     * @throws IllegalArgumentException if maximumSize or timeToLive is not strictly positive
+     */
+    public static <V> MemoCache<V> lru(final int maximumSize, final Duration timeToLive)
+    {
+        Objects.requireNonNull(timeToLive, "timeToLive is null");
+        if (maximumSize <= 0)
+        {
+            throw new IllegalArgumentException("maximumSize must be strictly positive");
+        }
+        if (timeToLive.isNegative() || timeToLive.isZero())
+        {
+            throw new IllegalArgumentException("timeToLive must be strictly positive");
+        }
+        return new MemoCache<>(maximumSize, timeToLive.toNanos(), System::nanoTime);
+    }
+
+    /**
+     * Returns the key of a call of the given function with the given parameters. The function is part of the key,
+     * so that several functions sharing a cache never read each other's results.
+     *
+     * @param function   the called function
+     * @param parameters the parameters of the call
+     * @return a key equal to the keys of the calls of the same function with equal parameters
+     */
+    static List<Object> key(final Object function, final Object... parameters)
+    {
+        final var key = new Object[parameters.length + 1];
+        key[0] = function;
+        System.arraycopy(parameters, 0, key, 1, parameters.length);
+        return Arrays.asList(key);
+    }
+
+    /**
+     * Returns the value cached for the given key, computing it with the given loader if it is missing or expired.
+     *
+     * @param key    the key, may be null
+     * @param loader the function computing the value
+     * @return the cached or computed value
+     * @throws NullPointerException  if loader is null
+     * @throws IllegalStateException if called by the loader of the same key
+     */
+    @SuppressWarnings("squid:S1181")
+    public V get(final Object key, final Function0<? extends V> loader)
+    {
+        Objects.requireNonNull(loader, "loader is null");
+        try
+        {
+            return getChecked(key, loader::apply);
+        } catch (final RuntimeException | Error e)
+        {
+            throw e;
+        } catch (final Throwable e)
+        {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Returns the value cached for the given key, computing it with the given loader if it is missing or expired.
+     *
+     * @param key    the key, may be null
+     * @param loader the function computing the value
+     * @return the cached or computed value
+     * @throws Throwable the exception thrown by the loader, in the calling thread and in the threads which waited
+     *                   for the same evaluation
+     */
+    @SuppressWarnings("squid:S112")
+    V getChecked(final Object key, final CheckedFunction0<? extends V> loader) throws Throwable
+    {
+        final var stripe = stripes[spread(Objects.hashCode(key)) & (stripes.length - 1)];
+        final Loading<V> loading;
+        final boolean owner;
+        stripe.lock.lock();
+        try
+        {
+            final var entry = stripe.entries.get(key);
+            if (entry != null)
+            {
+                if (timeToLive == 0L || clock.getAsLong() - entry.expiresAt() < 0L)
+                {
+                    hits.increment();
+                    return entry.value();
+                }
+                stripe.entries.remove(key);
+            }
+            final var inFlight = stripe.loading.get(key);
+            if (inFlight != null && inFlight.thread() == Thread.currentThread())
+            {
+                throw new IllegalStateException("Recursive load of the same key");
+            }
+            misses.increment();
+            owner = inFlight == null;
+            loading = owner ? new Loading<>(Thread.currentThread(), new CompletableFuture<>()) : inFlight;
+            if (owner)
+            {
+                stripe.loading.put(key, loading);
+            }
+        } finally
+        {
+            stripe.lock.unlock();
+        }
+        return owner ? load(stripe, key, loader, loading.future()) : await(loading.future());
+    }
+
+    /**
+     * Runs the loader and publishes its result to the cache and to the waiting threads.
+     *
+     * @param stripe  the stripe of the key
+     * @param key     the key
+     * @param loader  the function computing the value
+     * @param loading the future of the waiting threads
+     * @return the computed value
+     * @throws Throwable the exception thrown by the loader
+     */
+    @SuppressWarnings({"squid:S112", "squid:S1181"})
+    private V load(final Stripe<V> stripe,
+                   final Object key,
+                   final CheckedFunction0<? extends V> loader,
+                   final CompletableFuture<V> loading) throws Throwable
+    {
+        final V value;
+        try
+        {
+            value = loader.apply();
+        } catch (final Throwable e)
+        {
+            stripe.lock.lock();
+            try
+            {
+                stripe.loading.remove(key);
+            } finally
+            {
+                stripe.lock.unlock();
+            }
+            loading.completeExceptionally(e);
+            throw e;
+        }
+        stripe.lock.lock();
+        try
+        {
+            stripe.loading.remove(key);
+            stripe.entries.put(key, new Entry<>(value, timeToLive == 0L ? 0L : clock.getAsLong() + timeToLive));
+        } finally
+        {
+            stripe.lock.unlock();
+        }
+        loading.complete(value);
+        return value;
+    }
+
+    /**
+     * Waits for the evaluation of another thread.
+     *
+     * @param loading the future of the evaluation
+     * @return the computed value
+     * @throws Throwable the exception thrown by the loader
+     */
+    @SuppressWarnings("squid:S112")
+    private V await(final CompletableFuture<V> loading) throws Throwable
+    {
+        try
+        {
+            return loading.join();
+        } catch (final CompletionException e)
+        {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Returns the number of entries, expired ones included until they are looked up or evicted.
+     *
+     * @return the number of entries
+     */
+    public int size()
+    {
+        var size = 0;
+        for (final Stripe<V> stripe : stripes)
+        {
+            stripe.lock.lock();
+            try
+            {
+                size += stripe.entries.size();
+            } finally
+            {
+                stripe.lock.unlock();
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Discards all the entries. Evaluations in flight are not affected.
+     */
+    public void invalidateAll()
+    {
+        for (final Stripe<V> stripe : stripes)
+        {
+            stripe.lock.lock();
+            try
+            {
+                stripe.entries.clear();
+            } finally
+            {
+                stripe.lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Returns the statistics of this cache.
+     *
+     * @return a snapshot of the statistics
+     */
+    public Stats stats()
+    {
+        return new Stats(hits.sum(), misses.sum(), evictions.sum());
+    }
+
+    @Override
+    public String toString()
+    {
+        return "MemoCache(" + stats() + ")";
+    }
+
+    /**
+     * Spreads the bits of a hash code, as the high bits select the stripe once masked.
+     *
+     * @param hash the hash code
+     * @return the spread hash code
+     */
+    private static int spread(final int hash)
+    {
+        return hash ^ (hash >>> 16);
+    }
+
+    /**
+     * Statistics of a cache.
+     *
+     * @param hits      the number of lookups served from the cache
+     * @param misses    the number of lookups which evaluated or waited for the loader
+     * @param evictions the number of entries evicted to respect the maximum size
+     */
+    public record Stats(long hits, long misses, long evictions)
+    {
+        /**
+         * Returns the ratio of lookups served from the cache.
+         *
+         * @return the hit rate, between 0 and 1, or 1 if there was no lookup
+         */
+        public double hitRate()
+        {
+            final var requests = hits + misses;
+            return requests == 0 ? 1.0 : (double) hits / requests;
+        }
+    }
+
+    /**
+     * A cached value.
+     *
+     * @param value     the value
+     * @param expiresAt the nanosecond time at which the value expires, unused without time to live
+     * @param <V>       the type of the value
+     */
+    private record Entry<V>(V value, long expiresAt)
+    {
+    }
+
+    /**
+     * An evaluation in flight.
+     *
+     * @param thread the thread running the loader
+     * @param future the future of the threads waiting for the value
+     * @param <V>    the type of the value
+     */
+    private record Loading<V>(Thread thread, CompletableFuture<V> future)
+    {
+    }
+
+    /**
+     * A part of the cache, guarded by its own lock.
+     *
+     * @param <V> the type of the values
+     */
+    private static final class Stripe<V>
+    {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Map<Object, Loading<V>> loading = new HashMap<>();
+        private final LinkedHashMap<Object, Entry<V>> entries;
+
+        Stripe(final int capacity, final LongAdder evictions)
+        {
+            this.entries = new LinkedHashMap<>(16, 0.75f, true)
+            {
+                @Override
+                protected boolean removeEldestEntry(final Map.Entry<Object, Entry<V>> eldest)
+                {
+                    if (size() > capacity)
+                    {
+                        evictions.increment();
+                        return true;
+                    }
+                    return false;
+                }
+            };
+        }
+    }
+}
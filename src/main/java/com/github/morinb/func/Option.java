@@ -20,6 +20,9 @@ import java.io.Serial;
 import java.io.Serializable;
 import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 
@@ -50,11 +53,13 @@ public sealed interface Option<T>
      *
      * @param value the value to be wrapped in the Option
      * @param <T>   the type of the value
-     * @return an Option instance containing the specified value
+     * @return an Option instance containing the specified value, shared for {@code null}, booleans and small integers
      */
+    @SuppressWarnings("unchecked")
     static <T> Option<T> some(final T value)
     {
-        return new Some<>(value);
+        final var shared = Some.FLYWEIGHTS.lookup(value);
+        return shared == null ? new Some<>(value) : (Option<T>) shared;
     }
 
     /**
@@ -100,6 +105,45 @@ public sealed interface Option<T>
         return isNone() ? Option.none() : Option.some(mapper.apply(this.getValue()));
     }
 
+    /**
+     * Applies the given function to the value of this Option and returns the int result without boxing it.
+     *
+     * @param mapper the function to apply to the value
+     * @return the result of the mapper function, or an empty OptionalInt if this Option is None
+     * @throws NullPointerException if the mapper function is null
+     */
+    default OptionalInt mapToInt(final ToIntFunction1<? super T> mapper)
+    {
+        Objects.requireNonNull(mapper, "mapper is null");
+        return isNone() ? OptionalInt.empty() : OptionalInt.of(mapper.applyAsInt(this.getValue()));
+    }
+
+    /**
+     * Applies the given function to the value of this Option and returns the long result without boxing it.
+     *
+     * @param mapper the function to apply to the value
+     * @return the result of the mapper function, or an empty OptionalLong if this Option is None
+     * @throws NullPointerException if the mapper function is null
+     */
+    default OptionalLong mapToLong(final ToLongFunction1<? super T> mapper)
+    {
+        Objects.requireNonNull(mapper, "mapper is null");
+        return isNone() ? OptionalLong.empty() : OptionalLong.of(mapper.applyAsLong(this.getValue()));
+    }
+
+    /**
+     * Applies the given function to the value of this Option and returns the double result without boxing it.
+     *
+     * @param mapper the function to apply to the value
+     * @return the result of the mapper function, or an empty OptionalDouble if this Option is None
+     * @throws NullPointerException if the mapper function is null
+     */
+    default OptionalDouble mapToDouble(final ToDoubleFunction1<? super T> mapper)
+    {
+        Objects.requireNonNull(mapper, "mapper is null");
+        return isNone() ? OptionalDouble.empty() : OptionalDouble.of(mapper.applyAsDouble(this.getValue()));
+    }
+
     /**
      * Filters the current option based on the given predicate.
      *
@@ -213,6 +257,10 @@ public sealed interface Option<T>
      */
     final class Some<T> implements Option<T>
     {
+        /**
+         * Shared instances of Some for {@code null}, booleans and small integers.
+         */
+        private static final Flyweights<Some<?>> FLYWEIGHTS = new Flyweights<>(Some::new);
 
         /**
          * Represents a value wrapped in an Option.
@@ -0,0 +1,217 @@
+/*
+ * Copyright 2026 Baptiste MORIN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.morinb.func;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Applies a function to the elements of a list with a bounded number of concurrent calls.
+ * <p>
+ * At most {@code parallelism} workers run on the default executor, each claiming the next unprocessed index until
+ * none is left, so that no task is created per element.
+ *
+ * @param <T> the type of the elements
+ * @param <R> the type of the results
+ */
+final class ParallelTraversal<T, R>
+{
+    private final List<T> elements;
+    private final CheckedFunction1<? super T, ? extends R> mapper;
+    private final TraverseMode mode;
+    private final Object[] results;
+    private final Throwable[] failures;
+    private final AtomicInteger next = new AtomicInteger();
+    private final AtomicReference<Throwable> firstFailure = new AtomicReference<>();
+    private final List<FutureTask<Void>> workers;
+
+    /**
+     * Creates a ParallelTraversal.
+     *
+     * @param elements    the elements to traverse
+     * @param mapper      the function to apply
+     * @param parallelism the maximum number of concurrent calls
+     * @param mode        the failure handling mode
+     */
+    private ParallelTraversal(final List<T> elements,
+                              final CheckedFunction1<? super T, ? extends R> mapper,
+                              final int parallelism,
+                              final TraverseMode mode)
+    {
+        this.elements = elements;
+        this.mapper = mapper;
+        this.mode = mode;
+        this.results = new Object[elements.size()];
+        this.failures = mode == TraverseMode.COLLECT_ALL ? new Throwable[elements.size()] : null;
+        final var count = Math.min(parallelism, elements.size());
+        this.workers = new ArrayList<>(count);
+        for (var i = 0; i < count; i++)
+        {
+            workers.add(new FutureTask<>(Deadline.propagate(this::work), null));
+        }
+    }
+
+    /**
+     * Applies the given function to the given elements, see {@link Try#traverse(Iterable, CheckedFunction1, int, TraverseMode)}.
+     *
+     * @param values      the elements to traverse
+     * @param mapper      the function to apply
+     * @param parallelism the maximum number of concurrent calls
+     * @param mode        the failure handling mode
+     * @param <T>         the type of the elements
+     * @param <R>         the type of the results
+     * @return the results in input order, or a Failure
+     */
+    static <T, R> Try<FList<R>> traverse(final Iterable<? extends T> values,
+                                         final CheckedFunction1<? super T, ? extends R> mapper,
+                                         final int parallelism,
+                                         final TraverseMode mode)
+    {
+        Objects.requireNonNull(values, "values is null");
+        Objects.requireNonNull(mapper, "mapper is null");
+        Objects.requireNonNull(mode, "mode is null");
+        if (parallelism <= 0)
+        {
+            throw new IllegalArgumentException("parallelism must be strictly positive");
+        }
+        final List<T> elements = new ArrayList<>();
+        values.forEach(elements::add);
+        return new ParallelTraversal<T, R>(elements, mapper, parallelism, mode).run();
+    }
+
+    /**
+     * Starts the workers and waits for them.
+     *
+     * @return the results in input order, or a Failure
+     */
+    @SuppressWarnings("unchecked")
+    private Try<FList<R>> run()
+    {
+        workers.forEach(DefaultExecutor.get()::execute);
+        final var deadline = Deadline.current();
+        for (final FutureTask<Void> worker : workers)
+        {
+            try
+            {
+                if (deadline.isNone())
+                {
+                    worker.get();
+                }
+                else
+                {
+                    worker.get(deadline.getValue().remaining().toNanos(), TimeUnit.NANOSECONDS);
+                }
+            } catch (final CancellationException e)
+            {
+                // cancelled by a failing worker, reported below
+            } catch (final TimeoutException e)
+            {
+                cancelWorkers();
+                return Try.failure(Deadline.exceeded());
+            } catch (final InterruptedException e)
+            {
+                cancelWorkers();
+                Thread.currentThread().interrupt();
+                return Try.failure(e);
+            } catch (final ExecutionException e)
+            {
+                cancelWorkers();
+                return Try.failure(e.getCause());
+            }
+        }
+        if (firstFailure.get() != null)
+        {
+            return Try.failure(mode == TraverseMode.FAIL_FAST ? firstFailure.get() : collectFailures());
+        }
+        return Try.success(FList.of((List<R>) Arrays.asList(results)));
+    }
+
+    /**
+     * Processes elements until none is left or, in fail-fast mode, until a failure occurs.
+     */
+    private void work()
+    {
+        for (var i = next.getAndIncrement(); i < results.length; i = next.getAndIncrement())
+        {
+            if (mode == TraverseMode.FAIL_FAST && firstFailure.get() != null)
+            {
+                return;
+            }
+            final var element = elements.get(i);
+            final Try<R> result = Try.of(() -> mapper.apply(element));
+            if (result.isSuccess())
+            {
+                results[i] = result.get();
+            }
+            else if (mode == TraverseMode.COLLECT_ALL)
+            {
+                failures[i] = result.getCause();
+                firstFailure.compareAndSet(null, result.getCause());
+            }
+            else
+            {
+                if (firstFailure.compareAndSet(null, result.getCause()))
+                {
+                    cancelWorkers();
+                }
+                return;
+            }
+        }
+    }
+
+    /**
+     * Interrupts the workers still running, the calling one included.
+     */
+    private void cancelWorkers()
+    {
+        for (final FutureTask<Void> worker : workers)
+        {
+            worker.cancel(true);
+        }
+    }
+
+    /**
+     * Returns the first failure in input order, with the following ones added as suppressed exceptions.
+     *
+     * @return the first failure
+     */
+    private Throwable collectFailures()
+    {
+        Throwable first = null;
+        for (final Throwable failure : failures)
+        {
+            if (first == null)
+            {
+                first = failure;
+            }
+            else if (failure != first && failure != null)
+            {
+                first.addSuppressed(failure);
+            }
+        }
+        return first;
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2026 Baptiste MORIN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.morinb.func;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Immutable table of recovery functions indexed by exception class, used by {@link Try#recoverWith(RecoveryTable)}.
+ * <p>
+ * The handler of a failure is the first registered one whose exception class is assignable from the class of the
+ * cause. It is resolved once per concrete exception class and cached in a {@link ClassValue}, so that dispatching
+ * a failure does not depend on the number of registered handlers.
+ *
+ * @param <T> the type of the recovered value
+ */
+public final class RecoveryTable<T>
+{
+    private static final RecoveryTable<?> EMPTY = new RecoveryTable<>(new Class<?>[0], new Function<?, ?>[0]);
+
+    private final Class<?>[] exceptionClasses;
+    private final Function<?, ? extends T>[] handlers;
+    private final ClassValue<Function<Throwable, ? extends T>> resolved = new ClassValue<>()
+    {
+        @Override
+        @SuppressWarnings("unchecked")
+        protected Function<Throwable, ? extends T> computeValue(final Class<?> type)
+        {
+            for (var i = 0; i < exceptionClasses.length; i++)
+            {
+                if (exceptionClasses[i].isAssignableFrom(type))
+                {
+                    return (Function<Throwable, ? extends T>) handlers[i];
+                }
+            }
+            return null;
+        }
+    };
+
+    private RecoveryTable(final Class<?>[] exceptionClasses, final Function<?, ? extends T>[] handlers)
+    {
+        this.exceptionClasses = exceptionClasses;
+        this.handlers = handlers;
+    }
+
+    /**
+     * Returns an empty table, recovering no failure.
+     *
+     * @param <T> the type of the recovered value
+     * @return an empty table
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> RecoveryTable<T> empty()
+    {
+        return (RecoveryTable<T>) EMPTY;
+    }
+
+    /**
+     * Returns a table also recovering the failures whose cause is an instance of the given class.
+     * Handlers registered before this one take precedence.
+     *
+     * @param exceptionClass the class of the exceptions to recover
+     * @param handler        the function computing the recovered value
+     * @param <X>            the type of the exceptions to recover
+     * @return a new table
+     * @throws NullPointerException if exceptionClass or handler is null
+     */
+    @SuppressWarnings("unchecked")
+    public <X extends Throwable> RecoveryTable<T> on(final Class<X> exceptionClass, final Function<? super X, ? extends T> handler)
+    {
+        Objects.requireNonNull(exceptionClass, "exceptionClass is null");
+        Objects.requireNonNull(handler, "handler is null");
+        final var classes = Arrays.copyOf(exceptionClasses, exceptionClasses.length + 1);
+        final Function<?, ? extends T>[] functions = Arrays.copyOf(handlers, handlers.length + 1);
+        classes[exceptionClasses.length] = exceptionClass;
+        functions[handlers.length] = handler;
+        return new RecoveryTable<>(classes, functions);
+    }
+
+    /**
+     * Returns the handler of the given exception class.
+     *
+     * @param exceptionClass the concrete class of the exception
+     * @return the first registered handler accepting the class, or null if none does
+     */
+    Function<Throwable, ? extends T> handlerFor(final Class<? extends Throwable> exceptionClass)
+    {
+        return resolved.get(exceptionClass);
+    }
+
+    /**
+     * Returns the number of registered handlers.
+     *
+     * @return the number of registered handlers
+     */
+    public int size()
+    {
+        return handlers.length;
+    }
+
+    @Override
+    public String toString()
+    {
+        return "RecoveryTable" + Arrays.toString(Arrays.stream(exceptionClasses).map(Class::getSimpleName).toArray());
+    }
+}
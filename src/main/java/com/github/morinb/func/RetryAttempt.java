@@ -0,0 +1,57 @@
+/*
+ * Copyright 2026 Baptiste MORIN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.morinb.func;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * Metrics of one attempt made under a {@link RetryPolicy}, reported to its attempt listener.
+ *
+ * @param attempt    the number of the attempt, starting at 1
+ * @param duration   the time spent running the attempt
+ * @param outcome    the result of the attempt
+ * @param retryDelay the delay before the next attempt, or none if no further attempt will be made
+ */
+public record RetryAttempt(int attempt, Duration duration, Try<?> outcome, Option<Duration> retryDelay)
+{
+    /**
+     * Creates a RetryAttempt.
+     *
+     * @param attempt    the number of the attempt
+     * @param duration   the time spent running the attempt
+     * @param outcome    the result of the attempt
+     * @param retryDelay the delay before the next attempt, or none
+     * @throws NullPointerException if duration, outcome or retryDelay is null
+     */
+    public RetryAttempt
+    {
+        Objects.requireNonNull(duration, "duration is null");
+        Objects.requireNonNull(outcome, "outcome is null");
+        Objects.requireNonNull(retryDelay, "retryDelay is null");
+    }
+
+    /**
+     * Checks if another attempt will be made.
+     *
+     * @return true if another attempt will be made, false otherwise
+     */
+    public boolean willRetry()
+    {
+        return !retryDelay.isNone();
+    }
+}
@@ -0,0 +1,340 @@
+/*
+ * Copyright 2026 Baptiste MORIN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.morinb.func;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * Describes how a failing computation is retried by {@link Try#retry(CheckedFunction0, RetryPolicy)}.
+ * <p>
+ * A policy is immutable: each {@code with} method returns a new policy. By default, every {@link Exception} but an
+ * {@link InterruptedException} is retried immediately, while {@link Error}s are never retried;
+ * {@link #retryOn(Class[])} and {@link #retryIf(Predicate)} replace that default.
+ * <pre>{@code
+ * RetryPolicy policy = RetryPolicy.maxAttempts(5)
+ *         .withBackoff(Duration.ofMillis(50), 2.0, Duration.ofSeconds(2))
+ *         .withJitter(0.2)
+ *         .retryOn(IOException.class);
+ * }</pre>
+ */
+public final class RetryPolicy
+{
+    private final int maxAttempts;
+    private final Duration initialDelay;
+    private final double multiplier;
+    private final Duration maxDelay;
+    private final double jitter;
+    private final Predicate<? super Throwable> retryable;
+    private final Consumer<? super RetryAttempt> listener;
+
+    @SuppressWarnings("squid:S107")
+    private RetryPolicy(final int maxAttempts,
+                        final Duration initialDelay,
+                        final double multiplier,
+                        final Duration maxDelay,
+                        final double jitter,
+                        final Predicate<? super Throwable> retryable,
+                        final Consumer<? super RetryAttempt> listener)
+    {
+        this.maxAttempts = maxAttempts;
+        this.initialDelay = initialDelay;
+        this.multiplier = multiplier;
+        this.maxDelay = maxDelay;
+        this.jitter = jitter;
+        this.retryable = retryable;
+        this.listener = listener;
+    }
+
+    /**
+     * Creates a policy making at most the given number of attempts, retrying immediately every Exception but an
+     * InterruptedException.
+     *
+     * @param maxAttempts the maximum number of attempts, including the first one
+     * @return a new policy
+     * @throws IllegalArgumentException if maxAttempts is not strictly positive
+     */
+    public static RetryPolicy maxAttempts(final int maxAttempts)
+    {
+        if (maxAttempts <= 0)
+        {
+            throw new IllegalArgumentException("maxAttempts must be strictly positive");
+        }
+        return new RetryPolicy(maxAttempts, Duration.ZERO, 1.0, Duration.ZERO, 0.0, RetryPolicy::isRetryableByDefault,
+                attempt -> {
+                });
+    }
+
+    /**
+     * Checks if the given throwable is retried by default: Errors signal a broken JVM or program rather than a
+     * transient failure, and an InterruptedException a request to stop.
+     *
+     * @param throwable the cause of a failed attempt
+     * @return true if throwable is an Exception but not an InterruptedException, false otherwise
+     */
+    private static boolean isRetryableByDefault(final Throwable throwable)
+    {
+        return throwable instanceof Exception && !(throwable instanceof InterruptedException);
+    }
+
+    /**
+     * Returns a policy waiting the same delay before each retry.
+     *
+     * @param delay the delay before each retry
+     * @return a new policy
+     * @throws NullPointerException     if delay is null
+     * @throws IllegalArgumentException if delay is negative
+     */
+    public RetryPolicy withFixedDelay(final Duration delay)
+    {
+        return withBackoff(delay, 1.0, delay);
+    }
+
+    /**
+     * Returns a policy waiting an exponentially growing delay before each retry:
+     * {@code initialDelay * multiplier^(retry - 1)}, capped at {@code maxDelay}.
+     *
+     * @param initialDelay the delay before the first retry
+     * @param multiplier   the factor applied to the delay after each retry, at least 1
+     * @param maxDelay     the maximum delay
+     * @return a new policy
+     * @throws NullPointerException     if initialDelay or maxDelay is null
+     * @throws IllegalArgumentException if a delay is negative, if maxDelay is lower than initialDelay or if
+     *                                  multiplier is lower than 1
+     */
+    public RetryPolicy withBackoff(final Duration initialDelay, final double multiplier, final Duration maxDelay)
+    {
+        Objects.requireNonNull(initialDelay, "initialDelay is null");
+        Objects.requireNonNull(maxDelay, "maxDelay is null");
+        if (initialDelay.isNegative() || maxDelay.compareTo(initialDelay) < 0)
+        {
+            throw new IllegalArgumentException("delays must be positive and maxDelay cannot be lower than initialDelay");
+        }
+        if (!(multiplier >= 1.0))
+        {
+            throw new IllegalArgumentException("multiplier must be at least 1");
+        }
+        return new RetryPolicy(maxAttempts, initialDelay, multiplier, maxDelay, jitter, retryable, listener);
+    }
+
+    /**
+     * Returns a policy randomizing each delay by up to the given factor, in both directions.
+     * A factor of 0.2 spreads a delay of 100ms between 80ms and 120ms.
+     *
+     * @param factor the jitter factor, between 0 and 1
+     * @return a new policy
+     * @throws IllegalArgumentException if factor is not between 0 and 1
+     */
+    public RetryPolicy withJitter(final double factor)
+    {
+        if (!(factor >= 0.0 && factor <= 1.0))
+        {
+            throw new IllegalArgumentException("factor must be between 0 and 1");
+        }
+        return new RetryPolicy(maxAttempts, initialDelay, multiplier, maxDelay, factor, retryable, listener);
+    }
+
+    /**
+     * Returns a policy retrying only the exceptions assignable to one of the given classes.
+     *
+     * @param exceptionClasses the classes of the exceptions to retry
+     * @return a new policy
+     * @throws NullPointerException if exceptionClasses is null
+     */
+    @SafeVarargs
+    public final RetryPolicy retryOn(final Class<? extends Throwable>... exceptionClasses)
+    {
+        Objects.requireNonNull(exceptionClasses, "exceptionClasses is null");
+        final var classes = exceptionClasses.clone();
+        return retryIf(throwable -> {
+            for (final var exceptionClass : classes)
+            {
+                if (exceptionClass.isInstance(throwable))
+                {
+                    return true;
+                }
+            }
+            return false;
+        });
+    }
+
+    /**
+     * Returns a policy retrying only the exceptions matching the given predicate.
+     *
+     * @param predicate the predicate selecting the exceptions to retry
+     * @return a new policy
+     * @throws NullPointerException if predicate is null
+     */
+    public RetryPolicy retryIf(final Predicate<? super Throwable> predicate)
+    {
+        Objects.requireNonNull(predicate, "predicate is null");
+        return new RetryPolicy(maxAttempts, initialDelay, multiplier, maxDelay, jitter, predicate, listener);
+    }
+
+    /**
+     * Returns a policy reporting the metrics of each attempt to the given listener.
+     * The listener runs on the thread that made the attempt and must not block.
+     *
+     * @param listener the listener receiving the metrics of each attempt
+     * @return a new policy
+     * @throws NullPointerException if listener is null
+     */
+    public RetryPolicy onAttempt(final Consumer<? super RetryAttempt> listener)
+    {
+        Objects.requireNonNull(listener, "listener is null");
+        return new RetryPolicy(maxAttempts, initialDelay, multiplier, maxDelay, jitter, retryable, listener);
+    }
+
+    /**
+     * Returns the maximum number of attempts, including the first one.
+     *
+     * @return the maximum number of attempts
+     */
+    public int maxAttempts()
+    {
+        return maxAttempts;
+    }
+
+    /**
+     * Computes the delay before the given retry, jitter included.
+     *
+     * @param retry the number of the retry, starting at 1
+     * @return the delay before the retry
+     */
+    Duration delayBefore(final int retry)
+    {
+        final var capped = Math.min(initialDelay.toNanos() * Math.pow(multiplier, retry - 1.0), maxDelay.toNanos());
+        final var jittered = jitter == 0.0 ? capped : capped * (1.0 - jitter + 2.0 * jitter * ThreadLocalRandom.current().nextDouble());
+        return Duration.ofNanos((long) jittered);
+    }
+
+    /**
+     * Runs the supplier under this policy, waiting on the current thread between attempts.
+     * On a virtual thread, waiting does not hold a platform thread.
+     *
+     * If the retry predicate or the listener throws, the result is a Failure holding that exception.
+     *
+     * @param supplier the supplier to run
+     * @param <T>      the type of the result
+     * @return the result of the last attempt, or a Failure holding an InterruptedException if the current thread
+     * was interrupted while waiting
+     */
+    @SuppressWarnings("squid:S1181")
+    <T> Try<T> execute(final CheckedFunction0<? extends T> supplier)
+    {
+        for (var attempt = 1; ; attempt++)
+        {
+            final Pair<Try<T>, Option<Duration>> outcome;
+            try
+            {
+                outcome = attempt(supplier, attempt);
+            } catch (final Throwable throwable)
+            {
+                return Try.failure(throwable);
+            }
+            if (outcome.second().isNone())
+            {
+                return outcome.first();
+            }
+            try
+            {
+                TimeUnit.NANOSECONDS.sleep(outcome.second().getValue().toNanos());
+            } catch (final InterruptedException e)
+            {
+                Thread.currentThread().interrupt();
+                return Try.failure(e);
+            }
+        }
+    }
+
+    /**
+     * Runs the supplier under this policy without blocking: each retry is scheduled on the given executor once its
+     * delay has elapsed, so no thread waits in between.
+     * If the retry predicate, the listener or the scheduling of the next attempt throws, the promise completes with
+     * a Failure holding that exception, so that it always completes.
+     *
+     * @param supplier the supplier to run
+     * @param executor the executor running the attempts
+     * @param promise  the future to complete with the result of the last attempt
+     * @param attempt  the number of the attempt to make
+     * @param <T>      the type of the result
+     */
+    @SuppressWarnings("squid:S1181")
+    <T> void executeAsync(final CheckedFunction0<? extends T> supplier,
+                          final Executor executor,
+                          final CompletableFuture<Try<T>> promise,
+                          final int attempt)
+    {
+        if (promise.isDone())
+        {
+            return;
+        }
+        try
+        {
+            final Pair<Try<T>, Option<Duration>> outcome = attempt(supplier, attempt);
+            if (outcome.second().isNone())
+            {
+                promise.complete(outcome.first());
+            }
+            else
+            {
+                CompletableFuture.delayedExecutor(outcome.second().getValue().toNanos(), TimeUnit.NANOSECONDS, executor)
+                        .execute(Deadline.propagate(() -> executeAsync(supplier, executor, promise, attempt + 1)));
+            }
+        } catch (final Throwable throwable)
+        {
+            promise.complete(Try.failure(throwable));
+        }
+    }
+
+    /**
+     * Checks if the given delay elapses before the current deadline, if any.
+     *
+     * @param delay the delay to check
+     * @return true if there is no current deadline or if it expires after the delay, false otherwise
+     */
+    private static boolean fitsDeadline(final Duration delay)
+    {
+        return Deadline.current().fold(() -> true, deadline -> delay.compareTo(deadline.remaining()) < 0);
+    }
+
+    /**
+     * Makes one attempt and reports its metrics.
+     *
+     * @param supplier the supplier to run
+     * @param attempt  the number of the attempt
+     * @param <T>      the type of the result
+     * @return the result of the attempt with the delay before the next attempt, or none if no attempt remains
+     */
+    private <T> Pair<Try<T>, Option<Duration>> attempt(final CheckedFunction0<? extends T> supplier, final int attempt)
+    {
+        final var start = System.nanoTime();
+        final Try<T> result = Try.of(supplier);
+        final var duration = Duration.ofNanos(System.nanoTime() - start);
+        final Option<Duration> delay = result.isFailure() && attempt < maxAttempts && retryable.test(result.getCause())
+                ? Option.some(delayBefore(attempt)).filter(RetryPolicy::fitsDeadline)
+                : Option.none();
+        listener.accept(new RetryAttempt(attempt, duration, result, delay));
+        return new Pair<>(result, delay);
+    }
+}
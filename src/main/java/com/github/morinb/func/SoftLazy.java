@@ -0,0 +1,151 @@
+/*
+ * Copyright 2026 Baptiste MORIN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.morinb.func;
+
+import java.lang.ref.SoftReference;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * A lazily evaluated value held through a {@link SoftReference}, so that the garbage collector may reclaim it under
+ * memory pressure.
+ * <p>
+ * Created by {@link Lazy#soft(Supplier)}. The supplier is kept, and a reclaimed value is recomputed transparently by
+ * the next read, by a single thread. The number of computations is exposed to monitor how often values are
+ * reclaimed.
+ *
+ * @param <T> the type of the value
+ */
+public final class SoftLazy<T> implements Supplier<T>
+{
+    /**
+     * Referent standing for a null value, as a cleared reference also returns null.
+     */
+    private static final Object NULL = new Object();
+
+    private final Supplier<? extends T> supplier;
+    private final ReentrantLock loading = new ReentrantLock();
+    private final AtomicLong computations = new AtomicLong();
+    private volatile SoftReference<Object> reference;
+
+    /**
+     * Creates a SoftLazy.
+     *
+     * @param supplier the supplier of the value
+     */
+    SoftLazy(final Supplier<? extends T> supplier)
+    {
+        this.supplier = supplier;
+    }
+
+    /**
+     * Returns the value, computing it if it was never computed or has been reclaimed.
+     *
+     * @return the value
+     */
+    @Override
+    public T get()
+    {
+        final var current = reference;
+        final var held = current == null ? null : current.get();
+        return held == null ? load() : unwrap(held);
+    }
+
+    /**
+     * Checks if the value is currently held.
+     *
+     * @return true if the value is computed and not reclaimed, false otherwise
+     */
+    public boolean isEvaluated()
+    {
+        final var current = reference;
+        return current != null && current.get() != null;
+    }
+
+    /**
+     * Returns the number of times the value was computed.
+     *
+     * @return the number of computations
+     */
+    public long computations()
+    {
+        return computations.get();
+    }
+
+    /**
+     * Returns the number of times the value was computed again after being reclaimed.
+     *
+     * @return the number of recomputations
+     */
+    public long recomputations()
+    {
+        return Math.max(computations.get() - 1, 0);
+    }
+
+    /**
+     * Clears the reference as the garbage collector would.
+     */
+    void clear()
+    {
+        final var current = reference;
+        if (current != null)
+        {
+            current.clear();
+        }
+    }
+
+    /**
+     * Computes the value on the calling thread, unless another thread did it while this one was waiting.
+     *
+     * @return the value
+     */
+    private T load()
+    {
+        loading.lock();
+        try
+        {
+            final var current = reference;
+            final var held = current == null ? null : current.get();
+            if (held != null)
+            {
+                return unwrap(held);
+            }
+            final T value = supplier.get();
+            computations.incrementAndGet();
+            reference = new SoftReference<>(value == null ? NULL : value);
+            return value;
+        } finally
+        {
+            loading.unlock();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T unwrap(final Object held)
+    {
+        return held == NULL ? null : (T) held;
+    }
+
+    @Override
+    public String toString()
+    {
+        final var current = reference;
+        final var held = current == null ? null : current.get();
+        return "SoftLazy(" + (held == null ? "?" : unwrap(held)) + ")";
+    }
+}
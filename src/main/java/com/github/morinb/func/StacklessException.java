@@ -0,0 +1,58 @@
+/*
+ * Copyright 2026 Baptiste MORIN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.morinb.func;
+
+import java.io.Serial;
+
+/**
+ * A lightweight exception that captures no stack trace and records no suppressed exceptions.
+ * <p>
+ * It is meant for failures that are expected control flow, for example parse errors, where filling in the stack
+ * trace dominates the cost of the failure path. As it holds no per-throw state, an instance can be preallocated and
+ * shared:
+ * <pre>{@code
+ * private static final StacklessException NOT_A_NUMBER = new StacklessException("Not a number");
+ * ...
+ * return Try.failure(NOT_A_NUMBER);
+ * }</pre>
+ */
+public class StacklessException extends RuntimeException
+{
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Creates a StacklessException with the given message.
+     *
+     * @param message the reason of the failure
+     */
+    public StacklessException(final String message)
+    {
+        this(message, null);
+    }
+
+    /**
+     * Creates a StacklessException with the given message and cause.
+     *
+     * @param message the reason of the failure
+     * @param cause   the cause of the failure, may be null
+     */
+    public StacklessException(final String message, final Throwable cause)
+    {
+        super(message, cause, false, false);
+    }
+}
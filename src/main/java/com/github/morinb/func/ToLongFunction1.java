@@ -0,0 +1,110 @@
+/*
+ * Copyright 2026 Baptiste MORIN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.morinb.func;
+
+import java.util.Objects;
+import java.util.function.LongToDoubleFunction;
+import java.util.function.LongToIntFunction;
+import java.util.function.LongUnaryOperator;
+import java.util.function.ToLongFunction;
+
+/**
+ * Represents a function that accepts one argument and produces a long result, without boxing the result.
+ * This is a functional interface whose functional method is {@link #applyAsLong(Object)}.
+ *
+ * @param <T1> the type of the input to the function
+ */
+@FunctionalInterface
+public interface ToLongFunction1<T1> extends ToLongFunction<T1>
+{
+    /**
+     * Applies this function to the given parameter and returns the result.
+     *
+     * @param param1 the input parameter to apply the function to
+     * @return the result of applying this function to the given parameter
+     */
+    @Override
+    long applyAsLong(T1 param1);
+
+    /**
+     * Returns a new Function1 that applies the given function to the long result of this ToLongFunction1.
+     *
+     * @param <V>   The return type of the given function.
+     * @param after The function to apply after this ToLongFunction1.
+     * @return The composed Function1.
+     * @throws NullPointerException if the given function is null.
+     */
+    //implements andThen
+    default <V> Function1<T1, V> andThen(final LongFunction1<? extends V> after)
+    {
+        Objects.requireNonNull(after, "after is null");
+        return (T1 param1) -> after.apply(applyAsLong(param1));
+    }
+
+    /**
+     * Returns a new ToIntFunction1 that applies the given function to the long result of this ToLongFunction1,
+     * without boxing.
+     *
+     * @param after The function to apply after this ToLongFunction1.
+     * @return The composed ToIntFunction1.
+     * @throws NullPointerException if the given function is null.
+     */
+    default ToIntFunction1<T1> andThenInt(final LongToIntFunction after)
+    {
+        Objects.requireNonNull(after, "after is null");
+        return (T1 param1) -> after.applyAsInt(applyAsLong(param1));
+    }
+
+    /**
+     * Returns a new ToLongFunction1 that applies the given function to the long result of this ToLongFunction1,
+     * without boxing.
+     *
+     * @param after The function to apply after this ToLongFunction1.
+     * @return The composed ToLongFunction1.
+     * @throws NullPointerException if the given function is null.
+     */
+    default ToLongFunction1<T1> andThenLong(final LongUnaryOperator after)
+    {
+        Objects.requireNonNull(after, "after is null");
+        return (T1 param1) -> after.applyAsLong(applyAsLong(param1));
+    }
+
+    /**
+     * Returns a new ToDoubleFunction1 that applies the given function to the long result of this ToLongFunction1,
+     * without boxing.
+     *
+     * @param after The function to apply after this ToLongFunction1.
+     * @return The composed ToDoubleFunction1.
+     * @throws NullPointerException if the given function is null.
+     */
+    default ToDoubleFunction1<T1> andThenDouble(final LongToDoubleFunction after)
+    {
+        Objects.requireNonNull(after, "after is null");
+        return (T1 param1) -> after.applyAsDouble(applyAsLong(param1));
+    }
+
+    /**
+     * Returns a curried version of the function.
+     *
+     * @return a curried version of the function
+     */
+    // implements curried
+    default ToLongFunction1<T1> curried()
+    {
+        return this;
+    }
+}
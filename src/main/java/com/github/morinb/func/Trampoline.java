@@ -0,0 +1,240 @@
+/*
+ * Copyright 2026 Baptiste MORIN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.morinb.func;
+
+import java.util.ArrayDeque;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * A computation evaluated in constant stack depth.
+ * <p>
+ * A Trampoline describes the steps of a computation instead of performing them: {@link #defer(Supplier)} suspends
+ * a recursive call and {@link #flatMap(Function1)} chains a step, however deeply nested. {@link #run()} then
+ * evaluates the steps in a loop, keeping the pending continuations on the heap rather than on the call stack.
+ * <p>
+ * Long Try, Either or Lazy compositions can be written as a Trampoline of the type, using
+ * {@link #flatMapTry(Trampoline, Function1)} and {@link #flatMapRight(Trampoline, Function1)} to chain steps, and
+ * converted once at the end.
+ *
+ * @param <T> the type of the result
+ */
+public sealed interface Trampoline<T>
+        permits Trampoline.Done, Trampoline.More, Trampoline.FlatMap
+{
+    /**
+     * Returns a computation already completed with the given value.
+     *
+     * @param value the result
+     * @param <T>   the type of the result
+     * @return a completed Trampoline
+     */
+    static <T> Trampoline<T> done(final T value)
+    {
+        return new Done<>(value);
+    }
+
+    /**
+     * Returns a computation continuing with the Trampoline returned by the given supplier, typically a recursive call.
+     *
+     * @param next the supplier of the next step
+     * @param <T>  the type of the result
+     * @return a suspended Trampoline
+     * @throws NullPointerException if next is null
+     */
+    static <T> Trampoline<T> defer(final Supplier<? extends Trampoline<T>> next)
+    {
+        Objects.requireNonNull(next, "next is null");
+        return new More<>(next);
+    }
+
+    /**
+     * Returns a computation completing with the value of the given supplier, evaluated on {@link #run()}.
+     *
+     * @param supplier the supplier of the result
+     * @param <T>      the type of the result
+     * @return a suspended Trampoline
+     * @throws NullPointerException if supplier is null
+     */
+    static <T> Trampoline<T> delay(final Supplier<? extends T> supplier)
+    {
+        Objects.requireNonNull(supplier, "supplier is null");
+        return new More<>(() -> done(supplier.get()));
+    }
+
+    /**
+     * Chains a step applied to the value of a successful Try. A Failure skips the step.
+     * A mapper throwing an exception yields a Failure.
+     *
+     * @param trampoline the computation of the Try
+     * @param mapper     the next step
+     * @param <T>        the type of the value
+     * @param <U>        the type of the mapped value
+     * @return the chained computation
+     * @throws NullPointerException if trampoline or mapper is null
+     */
+    @SuppressWarnings("unchecked")
+    static <T, U> Trampoline<Try<U>> flatMapTry(final Trampoline<Try<T>> trampoline,
+                                                final Function1<? super T, ? extends Trampoline<Try<U>>> mapper)
+    {
+        Objects.requireNonNull(trampoline, "trampoline is null");
+        Objects.requireNonNull(mapper, "mapper is null");
+        return trampoline.flatMap(t ->
+        {
+            if (t.isFailure())
+            {
+                return done((Try<U>) t);
+            }
+            final Try<Trampoline<Try<U>>> next = Try.of(() -> mapper.apply(t.get()));
+            return next.isSuccess() ? next.get() : done(Try.failure(next.getCause()));
+        });
+    }
+
+    /**
+     * Chains a step applied to the right value of an Either. A Left skips the step.
+     *
+     * @param trampoline the computation of the Either
+     * @param mapper     the next step
+     * @param <L>        the type of the left value
+     * @param <R>        the type of the right value
+     * @param <U>        the type of the mapped right value
+     * @return the chained computation
+     * @throws NullPointerException if trampoline or mapper is null
+     */
+    @SuppressWarnings("unchecked")
+    static <L, R, U> Trampoline<Either<L, U>> flatMapRight(final Trampoline<Either<L, R>> trampoline,
+                                                           final Function1<? super R, ? extends Trampoline<Either<L, U>>> mapper)
+    {
+        Objects.requireNonNull(trampoline, "trampoline is null");
+        Objects.requireNonNull(mapper, "mapper is null");
+        return trampoline.flatMap(e -> e.isLeft() ? done((Either<L, U>) e) : mapper.apply(e.get()));
+    }
+
+    /**
+     * Maps the result of this computation.
+     *
+     * @param mapper the function to apply to the result
+     * @param <U>    the type of the mapped result
+     * @return the mapped computation
+     * @throws NullPointerException if mapper is null
+     */
+    default <U> Trampoline<U> map(final Function1<? super T, ? extends U> mapper)
+    {
+        Objects.requireNonNull(mapper, "mapper is null");
+        return flatMap(t -> done(mapper.apply(t)));
+    }
+
+    /**
+     * Chains a computation depending on the result of this one.
+     *
+     * @param mapper the function returning the next computation
+     * @param <U>    the type of the next result
+     * @return the chained computation
+     * @throws NullPointerException if mapper is null
+     */
+    default <U> Trampoline<U> flatMap(final Function1<? super T, ? extends Trampoline<U>> mapper)
+    {
+        Objects.requireNonNull(mapper, "mapper is null");
+        return new FlatMap<>(this, mapper);
+    }
+
+    /**
+     * Evaluates this computation in constant stack depth.
+     *
+     * @return the result
+     */
+    @SuppressWarnings("unchecked")
+    default T run()
+    {
+        final var continuations = new ArrayDeque<Function1<Object, ? extends Trampoline<?>>>();
+        Trampoline<?> current = this;
+        while (true)
+        {
+            if (current instanceof final FlatMap<?, ?> flatMap)
+            {
+                continuations.push((Function1<Object, ? extends Trampoline<?>>) flatMap.mapper());
+                current = flatMap.source();
+            }
+            else if (current instanceof final More<?> more)
+            {
+                current = more.next().get();
+            }
+            else
+            {
+                final var value = ((Done<?>) current).value();
+                if (continuations.isEmpty())
+                {
+                    return (T) value;
+                }
+                current = continuations.pop().apply(value);
+            }
+        }
+    }
+
+    /**
+     * Evaluates this computation, capturing a thrown exception.
+     *
+     * @return a Success holding the result, or a Failure holding the exception thrown by a step
+     */
+    default Try<T> toTry()
+    {
+        return Try.of(this::run);
+    }
+
+    /**
+     * Returns a Lazy evaluating this computation on first access.
+     *
+     * @return a Lazy of the result
+     */
+    default Lazy<T> toLazy()
+    {
+        return Lazy.of(this::run);
+    }
+
+    /**
+     * A completed computation.
+     *
+     * @param value the result
+     * @param <T>   the type of the result
+     */
+    record Done<T>(T value) implements Trampoline<T>
+    {
+    }
+
+    /**
+     * A suspended computation.
+     *
+     * @param next the supplier of the next step
+     * @param <T>  the type of the result
+     */
+    record More<T>(Supplier<? extends Trampoline<T>> next) implements Trampoline<T>
+    {
+    }
+
+    /**
+     * A computation chained to another one.
+     *
+     * @param source the first computation
+     * @param mapper the function returning the next computation
+     * @param <S>    the type of the first result
+     * @param <T>    the type of the result
+     */
+    record FlatMap<S, T>(Trampoline<S> source, Function1<? super S, ? extends Trampoline<T>> mapper)
+            implements Trampoline<T>
+    {
+    }
+}
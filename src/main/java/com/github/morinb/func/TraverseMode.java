@@ -0,0 +1,34 @@
+/*
+ * Copyright 2026 Baptiste MORIN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.morinb.func;
+
+/**
+ * Describes how {@link Try#traverse(Iterable, CheckedFunction1, int, TraverseMode)} handles failures.
+ */
+public enum TraverseMode
+{
+    /**
+     * Stops at the first failure, cancelling the calls still running and skipping the remaining elements.
+     */
+    FAIL_FAST,
+
+    /**
+     * Applies the function to every element. The first failure, in input order, is reported with the others added
+     * as suppressed exceptions.
+     */
+    COLLECT_ALL
+}
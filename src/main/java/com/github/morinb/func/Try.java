@@ -16,10 +16,19 @@
 
 package com.github.morinb.func;
 
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Predicate;
 
 /**
  * The Try interface represents a computation that may either result in a value or an exception.
@@ -45,13 +54,313 @@ public sealed interface Try<T>
         Objects.requireNonNull(supplier, "supplier is null");
         try
         {
-            return new Success<>(supplier.apply());
+            return success(supplier.apply());
         } catch (final Throwable throwable)
         {
             return new Failure<>(throwable);
         }
     }
 
+    /**
+     * Creates a Try instance by applying the given supplier function, giving up once the given timeout has elapsed.
+     * <p>
+     * The supplier runs on the default executor, bound to a {@link Deadline} so that the asynchronous computations it
+     * starts honour the same timeout. On expiry, the supplier is interrupted and a Failure holding a
+     * {@link DeadlineExceededException} is returned. A timeout never extends the current deadline, if any.
+     *
+     * @param <U>      the type of the result
+     * @param supplier the supplier function to apply
+     * @param timeout  the maximum time to wait for the result
+     * @return a Try instance representing the result of the supplier function, or a timeout Failure
+     * @throws NullPointerException if the supplier or the timeout is null
+     */
+    static <U> Try<U> of(final CheckedFunction0<? extends U> supplier, final Duration timeout)
+    {
+        Objects.requireNonNull(supplier, "supplier is null");
+        return Deadline.after(timeout).run(supplier);
+    }
+
+    /**
+     * Applies the given function to every element with at most {@code parallelism} concurrent calls, stopping at the
+     * first failure. See {@link #traverse(Iterable, CheckedFunction1, int, TraverseMode)}.
+     *
+     * @param <T>         the type of the elements
+     * @param <R>         the type of the results
+     * @param values      the elements to traverse
+     * @param mapper      the function to apply
+     * @param parallelism the maximum number of concurrent calls
+     * @return a Success holding the results in input order, or the first Failure
+     * @throws NullPointerException     if values or mapper is null
+     * @throws IllegalArgumentException if parallelism is not strictly positive
+     */
+    static <T, R> Try<FList<R>> traverse(final Iterable<? extends T> values,
+                                         final CheckedFunction1<? super T, ? extends R> mapper,
+                                         final int parallelism)
+    {
+        return traverse(values, mapper, parallelism, TraverseMode.FAIL_FAST);
+    }
+
+    /**
+     * Applies the given function to every element with at most {@code parallelism} concurrent calls on the default
+     * executor, which uses virtual threads when the runtime provides them.
+     * <p>
+     * In {@link TraverseMode#FAIL_FAST} mode, the first failure interrupts the calls still running and the remaining
+     * elements are skipped. In {@link TraverseMode#COLLECT_ALL} mode, every element is processed and the first failure
+     * in input order is returned, with the others added as suppressed exceptions.
+     * The current {@link Deadline}, if any, is propagated to the calls and bounds the whole traversal.
+     *
+     * @param <T>         the type of the elements
+     * @param <R>         the type of the results
+     * @param values      the elements to traverse
+     * @param mapper      the function to apply
+     * @param parallelism the maximum number of concurrent calls
+     * @param mode        the failure handling mode
+     * @return a Success holding the results in input order, or a Failure
+     * @throws NullPointerException     if values, mapper or mode is null
+     * @throws IllegalArgumentException if parallelism is not strictly positive
+     */
+    static <T, R> Try<FList<R>> traverse(final Iterable<? extends T> values,
+                                         final CheckedFunction1<? super T, ? extends R> mapper,
+                                         final int parallelism,
+                                         final TraverseMode mode)
+    {
+        return ParallelTraversal.traverse(values, mapper, parallelism, mode);
+    }
+
+    /**
+     * Acquires a resource, uses it and closes it, whatever the outcome.
+     * <p>
+     * A failure to close the resource is added as a suppressed exception to the failure of the use, if any, and
+     * makes the result a Failure otherwise.
+     *
+     * @param <R>     the type of the resource
+     * @param <U>     the type of the result
+     * @param acquire the function opening the resource
+     * @param use     the function using the resource
+     * @return a Try instance representing the result of the use
+     * @throws NullPointerException if acquire or use is null
+     */
+    @SuppressWarnings("try")
+    static <R extends AutoCloseable, U> Try<U> withResource(final CheckedFunction0<? extends R> acquire,
+                                                           final CheckedFunction1<? super R, ? extends U> use)
+    {
+        Objects.requireNonNull(acquire, "acquire is null");
+        Objects.requireNonNull(use, "use is null");
+        return Try.of(() ->
+        {
+            try (final R resource = acquire.apply())
+            {
+                return use.apply(resource);
+            }
+        });
+    }
+
+    /**
+     * Reads the lines of a UTF-8 file lazily and closes the file once the given function returns or fails.
+     * Lines are read as they are pulled from the iterator, so the memory used does not depend on the size of the file.
+     * The iterator must not be used once the function has returned.
+     *
+     * @param <U>  the type of the result
+     * @param path the file to read
+     * @param use  the function consuming the lines
+     * @return a Try instance representing the result of the function, or the failure to read the file
+     * @throws NullPointerException if path or use is null
+     */
+    static <U> Try<U> withLines(final Path path, final CheckedFunction1<? super Iterator<String>, ? extends U> use)
+    {
+        return withLines(path, StandardCharsets.UTF_8, use);
+    }
+
+    /**
+     * Reads the lines of a file lazily and closes the file once the given function returns or fails.
+     * See {@link #withLines(Path, CheckedFunction1)}.
+     *
+     * @param <U>     the type of the result
+     * @param path    the file to read
+     * @param charset the charset of the file
+     * @param use     the function consuming the lines
+     * @return a Try instance representing the result of the function, or the failure to read the file
+     * @throws NullPointerException if path, charset or use is null
+     */
+    static <U> Try<U> withLines(final Path path,
+                                final Charset charset,
+                                final CheckedFunction1<? super Iterator<String>, ? extends U> use)
+    {
+        Objects.requireNonNull(path, "path is null");
+        Objects.requireNonNull(charset, "charset is null");
+        Objects.requireNonNull(use, "use is null");
+        return withResource(() -> Files.newBufferedReader(path, charset), reader -> use.apply(reader.lines().iterator()));
+    }
+
+    /**
+     * Reads the lines of a UTF-8 file through memory-mapped windows and closes the file once the given function
+     * returns or fails. Only one window of the file is mapped at a time. Lines are separated by {@code \n} or
+     * {@code \r\n}. The iterator must not be used once the function has returned.
+     * <p>
+     * The JDK offers no way to unmap a buffer: closing releases the file channel, but the mapped windows stay mapped
+     * until they are garbage collected. Until then they hold address space and, on Windows, keep the file locked
+     * against deletion or truncation after this method has returned. {@link #withLines(Path, CheckedFunction1)},
+     * which reads through a channel, releases everything on return and is the one to prefer unless mapping is
+     * measured to be faster.
+     *
+     * @param <U>  the type of the result
+     * @param path the file to read
+     * @param use  the function consuming the lines
+     * @return a Try instance representing the result of the function, or the failure to read the file
+     * @throws NullPointerException if path or use is null
+     */
+    static <U> Try<U> withMappedLines(final Path path, final CheckedFunction1<? super Iterator<String>, ? extends U> use)
+    {
+        Objects.requireNonNull(path, "path is null");
+        Objects.requireNonNull(use, "use is null");
+        return withResource(() -> new MappedLines(path, StandardCharsets.UTF_8, MappedLines.DEFAULT_WINDOW), use::apply);
+    }
+
+    /**
+     * Creates a successful Try holding the given value.
+     * The instances holding {@code null}, booleans and small integers are shared.
+     *
+     * @param <U>   the type of the value
+     * @param value the value of the Success
+     * @return a Success holding the given value
+     */
+    @SuppressWarnings("unchecked")
+    static <U> Try<U> success(final U value)
+    {
+        final var shared = Success.FLYWEIGHTS.lookup(value);
+        return shared == null ? new Success<>(value) : (Try<U>) shared;
+    }
+
+    /**
+     * Creates a failed Try holding the given cause.
+     *
+     * @param <U>       the type of the value
+     * @param throwable the cause of the failure
+     * @return a Failure holding the given cause
+     * @throws NullPointerException if throwable is null
+     */
+    static <U> Try<U> failure(final Throwable throwable)
+    {
+        Objects.requireNonNull(throwable, "throwable is null");
+        return new Failure<>(throwable);
+    }
+
+    /**
+     * Creates a lightweight failed Try, whose cause is a {@link StacklessException} holding the given reason.
+     * No stack trace is captured, which makes this the cheapest way to represent an expected failure.
+     * <p>
+     * It is named apart from {@link #failure(Throwable)}, so that {@code Try.failure(null)} is not ambiguous.
+     *
+     * @param <U>    the type of the value
+     * @param reason the reason of the failure
+     * @return a Failure holding a StacklessException with the given reason
+     * @see #failure(String, boolean)
+     */
+    static <U> Try<U> stacklessFailure(final String reason)
+    {
+        return failure(reason, false);
+    }
+
+    /**
+     * Creates a failed Try holding the given reason, choosing for this call whether its cause captures a stack trace.
+     * Without stack trace, the cause is a {@link StacklessException}; otherwise it is a {@link RuntimeException},
+     * whose stack trace locates the failure.
+     *
+     * @param <U>               the type of the value
+     * @param reason            the reason of the failure
+     * @param captureStackTrace whether the cause captures its stack trace
+     * @return a Failure holding an exception with the given reason
+     */
+    @SuppressWarnings("squid:S112")
+    static <U> Try<U> failure(final String reason, final boolean captureStackTrace)
+    {
+        return new Failure<>(captureStackTrace ? new RuntimeException(reason) : new StacklessException(reason));
+    }
+
+    /**
+     * Runs the given supplier asynchronously on the default executor, which uses a virtual thread per task when the
+     * runtime provides them.
+     * The current {@link Deadline}, if any, is propagated to the supplier and fails the returned TryFuture on expiry.
+     *
+     * @param <U>      the type of the result
+     * @param supplier the supplier function to run
+     * @return a TryFuture completing with the result of the supplier
+     * @throws NullPointerException if the supplier is null
+     */
+    static <U> TryFuture<U> async(final CheckedFunction0<? extends U> supplier)
+    {
+        return async(supplier, DefaultExecutor.get());
+    }
+
+    /**
+     * Runs the given supplier asynchronously on the given executor.
+     *
+     * @param <U>      the type of the result
+     * @param supplier the supplier function to run
+     * @param executor the executor running the supplier and the combinators of the returned TryFuture
+     * @return a TryFuture completing with the result of the supplier
+     * @throws NullPointerException if the supplier or the executor is null
+     */
+    static <U> TryFuture<U> async(final CheckedFunction0<? extends U> supplier, final Executor executor)
+    {
+        return TryFuture.run(supplier, executor);
+    }
+
+    /**
+     * Runs the given supplier, retrying it as described by the given policy while it fails.
+     * The current thread waits between attempts.
+     *
+     * @param <U>      the type of the result
+     * @param supplier the supplier function to run
+     * @param policy   the retry policy
+     * @return the result of the last attempt, or a Failure holding an InterruptedException if the current thread
+     * was interrupted while waiting
+     * @throws NullPointerException if the supplier or the policy is null
+     */
+    static <U> Try<U> retry(final CheckedFunction0<? extends U> supplier, final RetryPolicy policy)
+    {
+        Objects.requireNonNull(supplier, "supplier is null");
+        Objects.requireNonNull(policy, "policy is null");
+        return policy.execute(supplier);
+    }
+
+    /**
+     * Runs the given supplier asynchronously on the default executor, retrying it as described by the given policy
+     * while it fails. No thread is blocked while waiting between attempts.
+     *
+     * @param <U>      the type of the result
+     * @param supplier the supplier function to run
+     * @param policy   the retry policy
+     * @return a TryFuture completing with the result of the last attempt
+     * @throws NullPointerException if the supplier or the policy is null
+     */
+    static <U> TryFuture<U> retryAsync(final CheckedFunction0<? extends U> supplier, final RetryPolicy policy)
+    {
+        return retryAsync(supplier, policy, DefaultExecutor.get());
+    }
+
+    /**
+     * Runs the given supplier asynchronously on the given executor, retrying it as described by the given policy
+     * while it fails. No thread is blocked while waiting between attempts.
+     *
+     * @param <U>      the type of the result
+     * @param supplier the supplier function to run
+     * @param policy   the retry policy
+     * @param executor the executor running the attempts and the combinators of the returned TryFuture
+     * @return a TryFuture completing with the result of the last attempt
+     * @throws NullPointerException if the supplier, the policy or the executor is null
+     */
+    static <U> TryFuture<U> retryAsync(final CheckedFunction0<? extends U> supplier, final RetryPolicy policy, final Executor executor)
+    {
+        Objects.requireNonNull(supplier, "supplier is null");
+        Objects.requireNonNull(policy, "policy is null");
+        Objects.requireNonNull(executor, "executor is null");
+        final var promise = new CompletableFuture<Try<U>>();
+        executor.execute(Deadline.propagate(() -> policy.executeAsync(supplier, executor, promise, 1)));
+        Deadline.cancelOnExpiry(promise, null);
+        return TryFuture.of(promise, executor);
+    }
+
     /**
      * Returns the cause of this throwable or null if the cause is nonexistent or unknown.
      *
@@ -147,6 +456,30 @@ public sealed interface Try<T>
         return this;
     }
 
+    /**
+     * Recovers from a failure using the first handler of the given table accepting its cause.
+     * The handler is resolved once per concrete exception class, see {@link RecoveryTable}.
+     *
+     * @param table the recovery table
+     * @return A new Try instance with the result of the handler applied if one accepts the cause,
+     * or this Try instance if it is not a failure or no handler accepts the cause.
+     * @throws NullPointerException if table is null
+     */
+    default Try<T> recoverWith(final RecoveryTable<? extends T> table)
+    {
+        Objects.requireNonNull(table, "table is null");
+        if (isFailure())
+        {
+            final var cause = getCause();
+            final Function<Throwable, ? extends T> handler = table.handlerFor(cause.getClass());
+            if (handler != null)
+            {
+                return Try.of(() -> handler.apply(cause));
+            }
+        }
+        return this;
+    }
+
 
 
     /**
@@ -156,6 +489,10 @@ public sealed interface Try<T>
      */
     record Success<T>(T value) implements Try<T>
     {
+        /**
+         * Shared instances of Success for {@code null}, booleans and small integers.
+         */
+        private static final Flyweights<Success<?>> FLYWEIGHTS = new Flyweights<>(Success::new);
 
         @Override
         public Throwable getCause()
@@ -213,6 +550,33 @@ public sealed interface Try<T>
         {
             return true;
         }
+
+        @Override
+        public boolean contains(final T value)
+        {
+            return Objects.equals(this.value, value);
+        }
+
+        @Override
+        public boolean exists(final Predicate<? super T> predicate)
+        {
+            Objects.requireNonNull(predicate, "predicate is null");
+            return predicate.test(value);
+        }
+
+        @Override
+        public boolean forAll(final Predicate<? super T> predicate)
+        {
+            Objects.requireNonNull(predicate, "predicate is null");
+            return predicate.test(value);
+        }
+
+        @Override
+        public void forEach(final Consumer<? super T> action)
+        {
+            Objects.requireNonNull(action, "action is null");
+            action.accept(value);
+        }
     }
 
     /**
@@ -272,5 +636,31 @@ public sealed interface Try<T>
             return false;
         }
 
+        @Override
+        public boolean contains(final T value)
+        {
+            return false;
+        }
+
+        @Override
+        public boolean exists(final Predicate<? super T> predicate)
+        {
+            Objects.requireNonNull(predicate, "predicate is null");
+            return false;
+        }
+
+        @Override
+        public boolean forAll(final Predicate<? super T> predicate)
+        {
+            Objects.requireNonNull(predicate, "predicate is null");
+            return true;
+        }
+
+        @Override
+        public void forEach(final Consumer<? super T> action)
+        {
+            Objects.requireNonNull(action, "action is null");
+        }
+
     }
 }
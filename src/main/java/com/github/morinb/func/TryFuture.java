@@ -0,0 +1,310 @@
+/*
+ * Copyright 2026 Baptiste MORIN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.morinb.func;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+
+/**
+ * A Try whose computation runs asynchronously, created by {@link Try#async(CheckedFunction0, Executor)}.
+ * <p>
+ * The combinators return immediately and are chained on the underlying {@link CompletableFuture}. The result is
+ * obtained as a regular {@link Try} with {@link #await()} or {@link #await(Duration)}; waiting never throws, an
+ * interruption or a timeout is returned as a Failure.
+ *
+ * @param <T> The type of the value contained in the Try
+ */
+public final class TryFuture<T>
+{
+    private final CompletableFuture<Try<T>> future;
+    private final Executor executor;
+    private final Future<?> task;
+    private final Deadline deadline;
+
+    /**
+     * Creates a TryFuture.
+     *
+     * @param future   the future holding the Try
+     * @param executor the executor running the combinators
+     * @param task     the task computing the value, or null if this TryFuture is derived from another one
+     * @param deadline the deadline checked before each continuation, or null if there is none
+     */
+    private TryFuture(final CompletableFuture<Try<T>> future,
+                      final Executor executor,
+                      final Future<?> task,
+                      final Deadline deadline)
+    {
+        this.future = future;
+        this.executor = executor;
+        this.task = task;
+        this.deadline = deadline;
+    }
+
+    /**
+     * Runs the supplier on the given executor.
+     *
+     * @param supplier the supplier to run
+     * @param executor the executor running the supplier and the combinators
+     * @param <T>      The type of the value
+     * @return a TryFuture completing with the result of the supplier
+     */
+    static <T> TryFuture<T> run(final CheckedFunction0<? extends T> supplier, final Executor executor)
+    {
+        Objects.requireNonNull(supplier, "supplier is null");
+        Objects.requireNonNull(executor, "executor is null");
+        final var promise = new CompletableFuture<Try<T>>();
+        final var task = new FutureTask<Void>(Deadline.propagate(() -> promise.complete(Try.of(supplier))), null);
+        executor.execute(task);
+        Deadline.cancelOnExpiry(promise, task);
+        return new TryFuture<>(promise, executor, task, Deadline.captured());
+    }
+
+    /**
+     * Wraps a future completed by another asynchronous process.
+     *
+     * @param future   the future holding the Try
+     * @param executor the executor running the combinators
+     * @param <T>      The type of the value
+     * @return a TryFuture completing with the future
+     */
+    static <T> TryFuture<T> of(final CompletableFuture<Try<T>> future, final Executor executor)
+    {
+        return new TryFuture<>(future, executor, null, Deadline.captured());
+    }
+
+    /**
+     * Maps the value once available. See {@link Try#map(Function1)}.
+     * If the deadline of this TryFuture has expired by then, the mapper is not applied and the result is a Failure
+     * holding a {@link DeadlineExceededException}.
+     *
+     * @param mapper the function to apply to the value
+     * @param <U>    the type of the mapped value
+     * @return a TryFuture holding the mapped value, or the same Failure
+     * @throws NullPointerException if mapper is null
+     */
+    public <U> TryFuture<U> map(final Function1<? super T, ? extends U> mapper)
+    {
+        Objects.requireNonNull(mapper, "mapper is null");
+        final var bound = continuationDeadline();
+        return derive(future.thenApplyAsync(value -> Deadline.within(bound, () -> value.map(mapper), TryFuture::exceeded), executor), bound);
+    }
+
+    /**
+     * Chains an asynchronous computation on the value once available. A Failure short-circuits the chain.
+     * The mapper runs bound to the deadline of this TryFuture, if any, and is not applied once it has expired.
+     *
+     * @param mapper the function returning the next asynchronous computation
+     * @param <U>    the type of the value of the next computation
+     * @return a TryFuture completing with the next computation, or the same Failure
+     * @throws NullPointerException if mapper is null
+     */
+    @SuppressWarnings("unchecked")
+    public <U> TryFuture<U> flatMap(final Function1<? super T, ? extends TryFuture<? extends U>> mapper)
+    {
+        Objects.requireNonNull(mapper, "mapper is null");
+        final var bound = continuationDeadline();
+        return derive(future.thenComposeAsync(value -> {
+            if (value.isFailure())
+            {
+                return CompletableFuture.completedFuture((Try<U>) value);
+            }
+            final Try<TryFuture<U>> next = Deadline.within(bound,
+                    () -> Try.of(() -> (TryFuture<U>) mapper.apply(value.get())),
+                    TryFuture::exceeded);
+            return next.isFailure()
+                    ? CompletableFuture.completedFuture(Try.failure(next.getCause()))
+                    : next.get().future;
+        }, executor), bound);
+    }
+
+    /**
+     * Recovers from a failure once available. See {@link Try#recover(Class, Function)}.
+     *
+     * @param <X>            The type of the exception to handle
+     * @param exceptionClass The class of the exception to handle
+     * @param func           The function to apply to the exception to recover
+     * @return a TryFuture holding the recovered value, or the same result
+     * @throws NullPointerException if exceptionClass or func is null
+     */
+    public <X extends Throwable> TryFuture<T> recover(final Class<X> exceptionClass, final Function<? super X, ? extends T> func)
+    {
+        Objects.requireNonNull(exceptionClass, "exceptionClass is null");
+        Objects.requireNonNull(func, "func is null");
+        return derive(future.thenApplyAsync(value -> value.recover(exceptionClass, func), executor), continuationDeadline());
+    }
+
+    /**
+     * Combines the values of this TryFuture and the given one once both are available.
+     * The result is the first Failure, in argument order, if any.
+     *
+     * @param other the TryFuture to combine with
+     * @param <U>   The type of the value of the other TryFuture
+     * @return a TryFuture holding the pair of both values, or the first Failure
+     * @throws NullPointerException if other is null
+     */
+    @SuppressWarnings("unchecked")
+    public <U> TryFuture<Pair<T, U>> zip(final TryFuture<? extends U> other)
+    {
+        Objects.requireNonNull(other, "other is null");
+        return derive(future.thenCombineAsync(other.future, (first, second) -> {
+            if (first.isFailure())
+            {
+                return (Try<Pair<T, U>>) (Try<?>) first;
+            }
+            if (second.isFailure())
+            {
+                return (Try<Pair<T, U>>) (Try<?>) second;
+            }
+            return Try.success(new Pair<>(first.get(), second.get()));
+        }, executor), continuationDeadline());
+    }
+
+    /**
+     * Waits for the result.
+     *
+     * @return the result, or a Failure holding an InterruptedException if the current thread was interrupted
+     */
+    public Try<T> await()
+    {
+        try
+        {
+            return future.get();
+        } catch (final InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+            return Try.failure(e);
+        } catch (final ExecutionException e)
+        {
+            return Try.failure(e.getCause());
+        } catch (final CancellationException e)
+        {
+            return Try.failure(e);
+        }
+    }
+
+    /**
+     * Waits at most the given duration for the result. The computation keeps running if the duration elapses.
+     *
+     * @param timeout the maximum duration to wait
+     * @return the result, a Failure holding a TimeoutException if the duration elapsed, or a Failure holding an
+     * InterruptedException if the current thread was interrupted
+     * @throws NullPointerException if timeout is null
+     */
+    public Try<T> await(final Duration timeout)
+    {
+        Objects.requireNonNull(timeout, "timeout is null");
+        try
+        {
+            return future.get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (final InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+            return Try.failure(e);
+        } catch (final ExecutionException e)
+        {
+            return Try.failure(e.getCause());
+        } catch (final CancellationException | TimeoutException e)
+        {
+            return Try.failure(e);
+        }
+    }
+
+    /**
+     * Checks if the result is available.
+     *
+     * @return true if the result is available, false otherwise
+     */
+    public boolean isDone()
+    {
+        return future.isDone();
+    }
+
+    /**
+     * Cancels the computation, interrupting it if it is running.
+     *
+     * @return true if this TryFuture was cancelled by this call, false if it was already completed
+     */
+    public boolean cancel()
+    {
+        final var cancelled = future.cancel(false);
+        if (cancelled && task != null)
+        {
+            task.cancel(true);
+        }
+        return cancelled;
+    }
+
+    /**
+     * Returns the future holding the Try.
+     *
+     * @return the future holding the Try
+     */
+    public CompletableFuture<Try<T>> toCompletableFuture()
+    {
+        return future;
+    }
+
+    /**
+     * Creates a TryFuture derived from this one, sharing its executor.
+     *
+     * @param derived  the future holding the derived Try
+     * @param deadline the deadline of the derived TryFuture, may be null
+     * @param <U>      The type of the derived value
+     * @return a TryFuture holding the derived Try
+     */
+    private <U> TryFuture<U> derive(final CompletableFuture<Try<U>> derived, final Deadline deadline)
+    {
+        return new TryFuture<>(derived, executor, null, deadline);
+    }
+
+    /**
+     * Returns the deadline of a continuation: the earlier of the deadline of this TryFuture and the one bound to
+     * the thread chaining the continuation.
+     *
+     * @return the deadline of the continuation, or null if there is none
+     */
+    private Deadline continuationDeadline()
+    {
+        return Deadline.earliest(deadline, Deadline.captured());
+    }
+
+    /**
+     * Creates the result of a continuation skipped because its deadline expired.
+     *
+     * @param <U> The type of the value
+     * @return a Failure holding a DeadlineExceededException
+     */
+    private static <U> Try<U> exceeded()
+    {
+        return Try.failure(Deadline.exceeded());
+    }
+
+    @Override
+    public String toString()
+    {
+        return future.isDone() && !future.isCompletedExceptionally() ? "TryFuture(" + future.join() + ")" : "TryFuture(?)";
+    }
+}
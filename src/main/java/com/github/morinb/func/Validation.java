@@ -0,0 +1,215 @@
+/*
+ * Copyright 2026 Baptiste MORIN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.morinb.func;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Builder validating any number of {@link Either} fields, beyond the arities supported by
+ * {@link Either#zipOrAccumulate(Either, Either, Function2)}.
+ * <p>
+ * Right values are stored in a flat buffer and Left values are accumulated in a single pass. The constructor is
+ * applied once, only if every field is Right, and reads the values back by index. A Validation is meant to be used
+ * once, by a single thread.
+ * <pre>{@code
+ * Either<NonEmptyList<String>, Person> person = Validation.<String>builder()
+ *         .field(validateName(name))
+ *         .field(validateAge(age))
+ *         .apply(fields -> new Person(fields.get(0), fields.get(1)));
+ * }</pre>
+ *
+ * @param <L> the type of the errors
+ */
+public final class Validation<L>
+{
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private final ErrorAccumulator<L> errors;
+    private final Fields fields;
+
+    /**
+     * Creates a Validation.
+     *
+     * @param policy   the policy describing how errors are accumulated
+     * @param capacity the initial capacity of the values buffer
+     */
+    private Validation(final AccumulationPolicy policy, final int capacity)
+    {
+        this.errors = new ErrorAccumulator<>(policy);
+        this.fields = new Fields(capacity);
+    }
+
+    /**
+     * Creates a Validation accumulating every error.
+     *
+     * @param <L> the type of the errors
+     * @return a new Validation
+     */
+    public static <L> Validation<L> builder()
+    {
+        return builder(AccumulationPolicy.unbounded(), DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a Validation accumulating errors under the given policy.
+     * A short-circuiting policy makes the Validation ignore the fields added once enough errors have been collected.
+     *
+     * @param policy the policy describing how errors are accumulated
+     * @param <L>    the type of the errors
+     * @return a new Validation
+     * @throws NullPointerException if policy is null
+     */
+    public static <L> Validation<L> builder(final AccumulationPolicy policy)
+    {
+        return builder(policy, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a Validation accumulating errors under the given policy, sized for the expected number of fields.
+     *
+     * @param policy         the policy describing how errors are accumulated
+     * @param expectedFields the expected number of fields
+     * @param <L>            the type of the errors
+     * @return a new Validation
+     * @throws NullPointerException     if policy is null
+     * @throws IllegalArgumentException if expectedFields is negative
+     */
+    public static <L> Validation<L> builder(final AccumulationPolicy policy, final int expectedFields)
+    {
+        if (expectedFields < 0)
+        {
+            throw new IllegalArgumentException("expectedFields cannot be negative");
+        }
+        return new Validation<>(policy, expectedFields);
+    }
+
+    /**
+     * Adds a field. Its Right value is stored at the next index, its Left value is accumulated.
+     * Once a field is Left, the Right values are no longer stored.
+     *
+     * @param field the validated field
+     * @return this Validation
+     * @throws NullPointerException if field is null
+     */
+    public Validation<L> field(final Either<? extends L, ?> field)
+    {
+        Objects.requireNonNull(field, "field is null");
+        if (!errors.isSaturated())
+        {
+            if (field.isLeft())
+            {
+                errors.add(field.getLeft());
+            }
+            else if (!errors.hasErrors())
+            {
+                fields.add(field.get());
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Applies the constructor if every field is Right, or returns the retained errors.
+     *
+     * @param constructor the function building the result from the field values
+     * @param <Z>         the type of the result
+     * @return a Right holding the result of the constructor, or a Left holding the retained errors
+     * @throws NullPointerException if constructor is null
+     */
+    public <Z> Either<NonEmptyList<L>, Z> apply(final Function1<? super Fields, ? extends Z> constructor)
+    {
+        return this.<Z>applyAccumulated(constructor).mapLeft(AccumulatedErrors::errors);
+    }
+
+    /**
+     * Applies the constructor if every field is Right, or returns the accumulated errors along with the total error
+     * count.
+     *
+     * @param constructor the function building the result from the field values
+     * @param <Z>         the type of the result
+     * @return a Right holding the result of the constructor, or a Left holding the accumulated errors
+     * @throws NullPointerException if constructor is null
+     */
+    public <Z> Either<AccumulatedErrors<L>, Z> applyAccumulated(final Function1<? super Fields, ? extends Z> constructor)
+    {
+        Objects.requireNonNull(constructor, "constructor is null");
+        if (errors.hasErrors())
+        {
+            return Either.left(errors.toErrors());
+        }
+        return Either.right(constructor.apply(fields));
+    }
+
+    /**
+     * Flat buffer holding the values of the validated fields, read back by index.
+     */
+    public static final class Fields
+    {
+        private Object[] values;
+        private int size;
+
+        /**
+         * Creates an empty buffer.
+         *
+         * @param capacity the initial capacity
+         */
+        private Fields(final int capacity)
+        {
+            this.values = new Object[capacity];
+        }
+
+        /**
+         * Appends a value, growing the buffer if needed.
+         *
+         * @param value the value to append
+         */
+        private void add(final Object value)
+        {
+            if (size == values.length)
+            {
+                values = Arrays.copyOf(values, Math.max(DEFAULT_CAPACITY, size * 2));
+            }
+            values[size++] = value;
+        }
+
+        /**
+         * Returns the value of the field at the given index.
+         *
+         * @param index the index of the field, in the order the fields were added
+         * @param <T>   the type of the field value
+         * @return the value of the field
+         * @throws IndexOutOfBoundsException if index is out of range
+         */
+        @SuppressWarnings("unchecked")
+        public <T> T get(final int index)
+        {
+            Objects.checkIndex(index, size);
+            return (T) values[index];
+        }
+
+        /**
+         * Returns the number of fields.
+         *
+         * @return the number of fields
+         */
+        public int size()
+        {
+            return size;
+        }
+    }
+}
@@ -85,7 +85,13 @@ public interface Value<T> extends Iterable<T> {
     default boolean forAll(final Predicate<? super T> predicate)
     {
         Objects.requireNonNull(predicate, "predicate is null");
-        return !exists(predicate.negate());
+        for (final T element : this)
+        {
+            if (!predicate.test(element)) {
+                return false;
+            }
+        }
+        return true;
     }
 
     /**
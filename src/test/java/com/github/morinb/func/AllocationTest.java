@@ -0,0 +1,125 @@
+/*
+ * Copyright 2026 Baptiste MORIN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.morinb.func;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Allocation-rate regression tests: the measured paths must not allocate per call.
+ */
+class AllocationTest
+{
+    private static final int ITERATIONS = 100_000;
+    private static final double MAX_BYTES_PER_CALL = 1.0;
+
+    private Object sink;
+    private long total;
+
+    @BeforeAll
+    static void requireAllocationCounters()
+    {
+        assumeTrue(Allocations.isSupported(), "thread allocation counters are not available");
+    }
+
+    private void assertAllocationFree(final String name, final Runnable action)
+    {
+        final var bytesPerCall = Allocations.bytesPerCall(ITERATIONS, action);
+        assertTrue(bytesPerCall < MAX_BYTES_PER_CALL, name + " allocates " + bytesPerCall + " bytes per call");
+    }
+
+    @Test
+    void eitherNoopAndEmptyAreAllocationFree()
+    {
+        assertAllocationFree("Either.noop", () -> sink = Either.noop());
+        assertAllocationFree("Either.empty", () -> sink = Either.empty());
+    }
+
+    @Test
+    void eitherCanonicalRightsAreAllocationFree()
+    {
+        assertAllocationFree("Either.right(true)", () -> sink = Either.right(true));
+        assertAllocationFree("Either.right(false)", () -> sink = Either.right(false));
+        assertAllocationFree("Either.right(42)", () -> sink = Either.right(42));
+    }
+
+    @Test
+    void trySuccessOfNullIsAllocationFree()
+    {
+        assertAllocationFree("Try.success(null)", () -> sink = Try.success(null));
+    }
+
+    @Test
+    void optionCanonicalSomesAreAllocationFree()
+    {
+        assertAllocationFree("Option.some(true)", () -> sink = Option.some(true));
+        assertAllocationFree("Option.some(0)", () -> sink = Option.some(0));
+    }
+
+    @Test
+    void singleValuedQueriesAreAllocationFree()
+    {
+        final Predicate<Integer> positive = i -> i > 0;
+        final Consumer<Integer> consumer = i -> sink = i;
+        final Integer expected = 1000;
+        final Either<String, Integer> right = Either.right(expected);
+        final Either<String, Integer> left = Either.left("error");
+        final Try<Integer> success = Try.success(expected);
+        final Try<Integer> failure = Try.of(() -> {
+            throw new IllegalStateException();
+        });
+        final var lazy = Lazy.of(() -> expected);
+        lazy.get();
+
+        for (final Value<Integer> value : List.of(right, left, success, failure, lazy))
+        {
+            final var name = value.getClass().getSimpleName();
+            assertAllocationFree(name + ".exists", () -> sink = value.exists(positive));
+            assertAllocationFree(name + ".forAll", () -> sink = value.forAll(positive));
+            assertAllocationFree(name + ".contains", () -> sink = value.contains(expected));
+            assertAllocationFree(name + ".forEach", () -> value.forEach(consumer));
+        }
+    }
+
+    @Test
+    void primitiveReductionsAreAllocationFree()
+    {
+        final var list = FList.of("a", "bb", "ccc");
+        final ToLongFunction1<String> length = String::length;
+        final ToIntFunction1<String> intLength = String::length;
+
+        assertAllocationFree("FList.sumLong", () -> total += list.sumLong(length));
+        assertAllocationFree("FList.sumInt", () -> total += list.sumInt(intLength));
+    }
+
+    @Test
+    void stacklessFailureAllocatesLessThanACapturedOne()
+    {
+        final var stackless = Allocations.bytesPerCall(ITERATIONS, () -> sink = Try.stacklessFailure("reason"));
+        final var captured = Allocations.bytesPerCall(ITERATIONS, () -> sink = Try.failure("reason", true));
+
+        assertTrue(stackless * 2 < captured, "stackless failure allocates " + stackless + " bytes per call, "
+                + "captured one " + captured);
+    }
+}
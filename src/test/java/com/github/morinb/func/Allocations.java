@@ -0,0 +1,69 @@
+/*
+ * Copyright 2026 Baptiste MORIN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.morinb.func;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Measures the heap allocations of the current thread, for the allocation-rate regression tests.
+ */
+final class Allocations
+{
+    private static final int WARMUP = 20_000;
+
+    private Allocations()
+    {
+
+    }
+
+    /**
+     * Checks if the JVM can report the bytes allocated by a thread.
+     *
+     * @return true if thread allocation counters are available and enabled, false otherwise
+     */
+    static boolean isSupported()
+    {
+        return ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean
+               && bean.isThreadAllocatedMemorySupported()
+               && bean.isThreadAllocatedMemoryEnabled();
+    }
+
+    /**
+     * Returns the average number of bytes allocated by the current thread per invocation of the given action,
+     * measured after a warm-up phase.
+     *
+     * @param iterations the number of measured invocations
+     * @param action     the action to measure
+     * @return the average number of bytes allocated per invocation
+     */
+    static double bytesPerCall(final int iterations, final Runnable action)
+    {
+        final var bean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        final var threadId = Thread.currentThread().getId();
+        for (var i = 0; i < WARMUP; i++)
+        {
+            action.run();
+        }
+        final var before = bean.getThreadAllocatedBytes(threadId);
+        for (var i = 0; i < iterations; i++)
+        {
+            action.run();
+        }
+        final var after = bean.getThreadAllocatedBytes(threadId);
+        return (double) (after - before) / iterations;
+    }
+}
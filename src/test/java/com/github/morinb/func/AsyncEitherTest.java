@@ -0,0 +1,149 @@
+/*
+ * Copyright 2026 Baptiste MORIN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.morinb.func;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AsyncEitherTest
+{
+
+    @Test
+    void mapAppliesOnRight()
+    {
+        final var result = AsyncEither.<String, Integer>right(10).map(i -> i * 2);
+
+        assertEquals(Either.right(20), result.toCompletableFuture().join());
+    }
+
+    @Test
+    void mapIsSkippedOnLeft()
+    {
+        final var result = AsyncEither.<String, Integer>left("Error").map(i -> i * 2);
+
+        assertEquals(Either.left("Error"), result.toCompletableFuture().join());
+    }
+
+    @Test
+    void mapLeftAppliesOnLeft()
+    {
+        final var result = AsyncEither.<String, Integer>left("Error").mapLeft(String::length);
+
+        assertEquals(Either.left(5), result.toCompletableFuture().join());
+    }
+
+    @Test
+    void flatMapChainsWithoutBlocking()
+    {
+        final var pending = new CompletableFuture<Either<String, Integer>>();
+        final var result = AsyncEither.fromStage(pending)
+                .flatMap(i -> AsyncEither.supplyAsync(() -> Either.right(i + 1)));
+
+        assertFalse(result.toCompletableFuture().isDone());
+        pending.complete(Either.right(1));
+        assertEquals(Either.right(2), result.toCompletableFuture().join());
+    }
+
+    @Test
+    void flatMapShortCircuitsOnLeft()
+    {
+        final var calls = new AtomicInteger();
+        final var result = AsyncEither.<String, Integer>left("Error")
+                .flatMap(i -> {
+                    calls.incrementAndGet();
+                    return AsyncEither.right(i);
+                });
+
+        assertEquals(Either.left("Error"), result.toCompletableFuture().join());
+        assertEquals(0, calls.get());
+    }
+
+    @Test
+    void foldAppliesTheMatchingFunction()
+    {
+        assertEquals("R10", AsyncEither.<String, Integer>right(10).fold(l -> "L" + l, r -> "R" + r).join());
+        assertEquals("LError", AsyncEither.<String, Integer>left("Error").fold(l -> "L" + l, r -> "R" + r).join());
+    }
+
+    @Test
+    void zipOrAccumulateCombinesRights()
+    {
+        final var result = AsyncEither.zipOrAccumulate(
+                AsyncEither.<String, Integer>supplyAsync(() -> Either.right(1)),
+                AsyncEither.<String, Integer>supplyAsync(() -> Either.right(2)),
+                AsyncEither.<String, Integer>right(3),
+                (a, b, c) -> a + b + c);
+
+        assertEquals(Either.right(6), result.toCompletableFuture().join());
+    }
+
+    @Test
+    void zipOrAccumulateAccumulatesLefts()
+    {
+        final var result = AsyncEither.zipOrAccumulate(
+                AsyncEither.<String, Integer>left("Error1"),
+                AsyncEither.<String, Integer>right(2),
+                AsyncEither.<String, Integer>left("Error3"),
+                AsyncEither.<String, Integer>right(4),
+                (a, b, c, d) -> a + b + c + d);
+
+        assertEquals(NonEmptyList.of("Error1", "Error3"), result.toCompletableFuture().join().getLeft());
+    }
+
+    @Test
+    void mappingFunctionsRunOnTheConfiguredExecutor()
+    {
+        final var executions = new AtomicInteger();
+        final Executor executor = runnable -> {
+            executions.incrementAndGet();
+            runnable.run();
+        };
+
+        final var result = AsyncEither.<String, Integer>right(1).withExecutor(executor).map(i -> i + 1).map(i -> i + 1);
+
+        assertEquals(Either.right(3), result.toCompletableFuture().join());
+        assertEquals(2, executions.get());
+    }
+
+    @Test
+    void throwingMapperCompletesExceptionally()
+    {
+        final var result = AsyncEither.<String, Integer>right(1).map(i -> {
+            throw new IllegalStateException("boom");
+        });
+
+        final var exception = assertThrows(CompletionException.class, () -> result.toCompletableFuture().join());
+        assertInstanceOf(IllegalStateException.class, exception.getCause());
+    }
+
+    @Test
+    void toStringShowsCompletedValue()
+    {
+        assertEquals("AsyncEither(Right(1))", AsyncEither.right(1).toString());
+        assertTrue(AsyncEither.fromStage(new CompletableFuture<Either<String, Integer>>()).toString().endsWith("(?)"));
+    }
+}
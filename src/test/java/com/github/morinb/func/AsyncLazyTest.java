@@ -0,0 +1,112 @@
+/*
+ * Copyright 2026 Baptiste MORIN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.morinb.func;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AsyncLazyTest
+{
+
+    @Test
+    void concurrentCallersShareTheInFlightComputation()
+    {
+        final var calls = new AtomicInteger();
+        final var tasks = new ArrayDeque<Runnable>();
+        final var lazy = Lazy.async(calls::incrementAndGet, tasks::add);
+
+        final var first = lazy.get();
+        final var second = lazy.get();
+
+        assertFalse(first.isDone());
+        assertEquals(1, tasks.size());
+        tasks.poll().run();
+        assertEquals(1, first.join());
+        assertEquals(1, second.join());
+        assertEquals(1, lazy.get().join());
+        assertEquals(1, calls.get());
+        assertTrue(lazy.isEvaluated());
+    }
+
+    @Test
+    void failedComputationIsRetried()
+    {
+        final var calls = new AtomicInteger();
+        final var lazy = Lazy.async(() -> {
+            if (calls.incrementAndGet() == 1)
+            {
+                throw new IllegalStateException("first");
+            }
+            return "second";
+        }, Runnable::run);
+
+        final var failure = assertThrows(CompletionException.class, () -> lazy.get().join());
+
+        assertInstanceOf(IllegalStateException.class, failure.getCause());
+        assertFalse(lazy.isEvaluated());
+        assertEquals("second", lazy.get().join());
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    void cancellingAReturnedFutureDoesNotAffectOthers()
+    {
+        final var tasks = new ArrayDeque<Runnable>();
+        final var lazy = Lazy.async(() -> 42, tasks::add);
+
+        lazy.get().cancel(true);
+        final var other = lazy.get();
+        tasks.poll().run();
+
+        assertEquals(42, other.join());
+    }
+
+    @Test
+    void callersDoNotBlockOnTheDefaultExecutor() throws InterruptedException
+    {
+        final var release = new CountDownLatch(1);
+        final var lazy = Lazy.async(() -> {
+            try
+            {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (final InterruptedException e)
+            {
+                Thread.currentThread().interrupt();
+            }
+            return "value";
+        });
+
+        final var future = lazy.get();
+        assertFalse(future.isDone());
+        assertEquals("AsyncLazy(?)", lazy.toString());
+        release.countDown();
+
+        assertEquals("value", future.join());
+        assertEquals("AsyncLazy(value)", lazy.toString());
+    }
+}
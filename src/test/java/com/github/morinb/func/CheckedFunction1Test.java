@@ -18,6 +18,9 @@ package com.github.morinb.func;
 
 import org.junit.jupiter.api.Test;
 
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertSame;
@@ -94,4 +97,27 @@ class CheckedFunction1Test
         final var curriedFunction3 = function3.curried();
         assertSame(function3, curriedFunction3);
     }
+
+    /**
+     * This unit test verifies that the `memoized` method caches successful results only.
+     * A failing call is evaluated again on the next call with the same parameter.
+     */
+    @Test
+    void testMemoized_cachesSuccessesOnly() throws Throwable
+    {
+        final var calls = new AtomicInteger();
+        final CheckedFunction1<Integer, Integer> function = (Integer i) -> {
+            if (calls.incrementAndGet() == 1)
+            {
+                throw new IOException("first call");
+            }
+            return i * 2;
+        };
+        final var memoized = function.memoized();
+
+        assertThrows(IOException.class, () -> memoized.apply(21));
+        assertEquals(42, memoized.apply(21));
+        assertEquals(42, memoized.apply(21));
+        assertEquals(2, calls.get());
+    }
 }
\ No newline at end of file
@@ -0,0 +1,192 @@
+/*
+ * Copyright 2026 Baptiste MORIN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.morinb.func;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CodecsTest
+{
+
+    private static <T> T roundTrip(final Codec<T> codec, final T value)
+    {
+        final var buffer = codec.encode(value);
+        assertEquals(codec.sizeOf(value), buffer.remaining());
+        final var decoded = codec.decode(buffer);
+        assertEquals(0, buffer.remaining());
+        return decoded;
+    }
+
+    @Test
+    void primitivesRoundTrip()
+    {
+        assertEquals(-42, roundTrip(Codecs.ints(), -42));
+        assertEquals(Long.MIN_VALUE, roundTrip(Codecs.longs(), Long.MIN_VALUE));
+        assertEquals(0.5, roundTrip(Codecs.doubles(), 0.5));
+        assertEquals(true, roundTrip(Codecs.booleans(), true));
+    }
+
+    @Test
+    void stringsAreWrittenInUtf8()
+    {
+        final var value = "été 😀 日本";
+
+        assertEquals(value, roundTrip(Codecs.strings(), value));
+        assertEquals(1 + value.getBytes(java.nio.charset.StandardCharsets.UTF_8).length, Codecs.strings().sizeOf(value));
+    }
+
+    @Test
+    void directBuffersAreSupported()
+    {
+        final var codec = Codecs.either(Codecs.strings(), Codecs.flist(Codecs.strings()));
+        final Either<String, FList<String>> value = Either.right(FList.of("a", "béta"));
+        final var buffer = ByteBuffer.allocateDirect(codec.sizeOf(value));
+
+        codec.encode(value, buffer);
+
+        assertEquals(value, codec.decode(buffer.flip()));
+    }
+
+    @Test
+    void adtsRoundTrip()
+    {
+        final var ints = Codecs.ints();
+
+        assertEquals(Either.left("error"), roundTrip(Codecs.either(Codecs.strings(), ints), Either.left("error")));
+        assertEquals(Either.right(1), roundTrip(Codecs.either(Codecs.strings(), ints), Either.right(1)));
+        assertEquals(Option.some(3), roundTrip(Codecs.option(ints), Option.some(3)));
+        assertEquals(Option.<Integer>none(), roundTrip(Codecs.option(ints), Option.none()));
+        assertEquals(Try.success(4), roundTrip(Codecs.tryOf(ints), Try.success(4)));
+        assertEquals(5, roundTrip(Codecs.lazy(ints), Lazy.of(() -> 5)).get());
+        assertEquals(new Pair<>(6, "six"), roundTrip(Codecs.pair(ints, Codecs.strings()), new Pair<>(6, "six")));
+        assertEquals(FList.of(1, 2, 3), roundTrip(Codecs.flist(ints), FList.of(1, 2, 3)));
+        assertEquals(FList.<Integer>empty(), roundTrip(Codecs.flist(ints), FList.empty()));
+        assertEquals(NonEmptyList.of(7, 8), roundTrip(Codecs.nonEmptyList(ints), NonEmptyList.of(7, 8)));
+        assertEquals(Option.some(null), roundTrip(Codecs.option(Codecs.nullable(ints)), Option.some(null)));
+    }
+
+    @Test
+    void failureIsDecodedAsStacklessException()
+    {
+        final Try<Integer> decoded = roundTrip(Codecs.tryOf(Codecs.ints()), Try.failure(new IOException("disk full")));
+
+        assertInstanceOf(StacklessException.class, decoded.getCause());
+        assertEquals("java.io.IOException: disk full", decoded.getCause().getMessage());
+    }
+
+    @Test
+    void longListsDoNotExhaustTheStack()
+    {
+        var list = FList.<Integer>empty();
+        for (var i = 0; i < 100_000; i++)
+        {
+            list = list.prepend(i);
+        }
+        final var codec = Codecs.flist(Codecs.ints());
+
+        final var decoded = codec.decode(codec.encode(list));
+
+        assertEquals(99_999, decoded.head());
+    }
+
+    @Test
+    void listsOfZeroSizedElementsRoundTrip()
+    {
+        final Codec<String> unit = new Codec<>()
+        {
+            @Override
+            public int sizeOf(final String value)
+            {
+                return 0;
+            }
+
+            @Override
+            public void encode(final String value, final ByteBuffer buffer)
+            {
+                // nothing to write
+            }
+
+            @Override
+            public String decode(final ByteBuffer buffer)
+            {
+                return "unit";
+            }
+
+            @Override
+            public int minSize()
+            {
+                return 0;
+            }
+        };
+        final var list = FList.of("unit", "unit", "unit");
+        final var pair = new Pair<>(list, "unit");
+
+        assertEquals(list, roundTrip(Codecs.flist(unit), list));
+        assertEquals(pair, roundTrip(Codecs.pair(Codecs.flist(unit), unit), pair));
+        assertThrows(IllegalArgumentException.class, () -> Codecs.flist(unit, 2).decode(Codecs.flist(unit).encode(list)));
+    }
+
+    @Test
+    void listSizesTheRemainingBytesCannotHoldAreRejected()
+    {
+        final var buffer = ByteBuffer.allocate(9);
+        Codecs.putVarInt(3, buffer);
+        buffer.putInt(1).putInt(2).flip();
+
+        assertThrows(IllegalArgumentException.class, () -> Codecs.flist(Codecs.ints()).decode(buffer));
+    }
+
+    @Test
+    void variableLengthIntegersRoundTrip()
+    {
+        for (final int value : new int[]{0, 1, 127, 128, 16_383, 16_384, Integer.MAX_VALUE})
+        {
+            final var buffer = ByteBuffer.allocate(Codecs.varIntSize(value));
+            Codecs.putVarInt(value, buffer);
+
+            assertEquals(0, buffer.remaining());
+            assertEquals(value, Codecs.getVarInt(buffer.flip()));
+        }
+    }
+
+    @Test
+    void invalidInputIsRejected()
+    {
+        assertThrows(IllegalArgumentException.class, () -> Codecs.option(Codecs.ints()).decode(ByteBuffer.wrap(new byte[]{7})));
+        assertThrows(IllegalArgumentException.class, () -> Codecs.strings().decode(ByteBuffer.wrap(new byte[]{5, 'a'})));
+    }
+
+    @Test
+    void encodingIsSmallerThanJavaSerialization()
+    {
+        final Either<String, Option<Integer>> value = Either.right(Option.some(42));
+        final var codec = Codecs.either(Codecs.strings(), Codecs.option(Codecs.ints()));
+
+        final var compact = codec.sizeOf(value);
+        final var serialized = Serializers.serialize(value).length;
+
+        assertEquals(6, compact);
+        assertTrue(compact * 10 < serialized, () -> compact + " bytes vs " + serialized + " bytes");
+    }
+}
@@ -0,0 +1,219 @@
+/*
+ * Copyright 2026 Baptiste MORIN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.morinb.func;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DeadlineTest
+{
+
+    @Test
+    void ofWithTimeoutReturnsTheResultInTime()
+    {
+        assertEquals(Try.success(42), Try.of(() -> 42, Duration.ofSeconds(5)));
+    }
+
+    @Test
+    void ofWithTimeoutKeepsTheSupplierFailure()
+    {
+        final Try<Integer> result = Try.of(() -> {
+            throw new IOException("boom");
+        }, Duration.ofSeconds(5));
+
+        assertInstanceOf(IOException.class, result.getCause());
+    }
+
+    @Test
+    void ofWithTimeoutInterruptsASlowSupplier() throws InterruptedException
+    {
+        final var interrupted = new CountDownLatch(1);
+        final Try<Integer> result = Try.of(() -> {
+            try
+            {
+                Thread.sleep(10_000);
+            } catch (final InterruptedException e)
+            {
+                interrupted.countDown();
+                throw e;
+            }
+            return 42;
+        }, Duration.ofMillis(20));
+
+        assertInstanceOf(DeadlineExceededException.class, result.getCause());
+        assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void expiredTimeoutDoesNotRunTheSupplier()
+    {
+        final var calls = new AtomicInteger();
+        final Try<Integer> result = Try.of(calls::incrementAndGet, Duration.ZERO);
+
+        assertInstanceOf(DeadlineExceededException.class, result.getCause());
+        assertEquals(0, calls.get());
+    }
+
+    @Test
+    void deadlineIsBoundWhileRunning()
+    {
+        assertTrue(Deadline.current().isNone());
+        final Try<Boolean> bound = Deadline.after(Duration.ofSeconds(5)).run(() -> Deadline.current().isNone());
+
+        assertEquals(Try.success(false), bound);
+        assertTrue(Deadline.current().isNone());
+    }
+
+    @Test
+    void nestedTimeoutNeverExtendsTheCurrentDeadline()
+    {
+        final Try<Duration> remaining = Deadline.after(Duration.ofSeconds(1))
+                .run(() -> Try.of(() -> Deadline.current().getValue().remaining(), Duration.ofHours(1)).get());
+
+        assertTrue(remaining.get().compareTo(Duration.ofSeconds(1)) <= 0);
+    }
+
+    @Test
+    void asyncInheritsAndHonoursTheDeadline()
+    {
+        final Try<TryFuture<Integer>> future = Deadline.after(Duration.ofMillis(50)).run(() -> Try.async(() -> {
+            Thread.sleep(10_000);
+            return 42;
+        }));
+
+        assertInstanceOf(DeadlineExceededException.class, future.get().await(Duration.ofSeconds(5)).getCause());
+    }
+
+    @Test
+    void asyncEitherPropagatesTheDeadline()
+    {
+        final Try<Boolean> propagated = Deadline.after(Duration.ofSeconds(5)).run(() ->
+                AsyncEither.<String, Boolean>supplyAsync(() -> Either.right(!Deadline.current().isNone()))
+                        .toCompletableFuture()
+                        .join()
+                        .get());
+
+        assertEquals(Try.success(true), propagated);
+    }
+
+    @Test
+    void retryStopsWhenTheNextDelayExceedsTheDeadline()
+    {
+        final var calls = new AtomicInteger();
+        final Try<Try<Integer>> result = Deadline.after(Duration.ofSeconds(5)).run(() -> Try.retry(() -> {
+            calls.incrementAndGet();
+            throw new IOException("boom");
+        }, RetryPolicy.maxAttempts(10).withFixedDelay(Duration.ofMinutes(1))));
+
+        assertInstanceOf(IOException.class, result.get().getCause());
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void earlyCompletionCancelsTheScheduledExpiry() throws InterruptedException
+    {
+        final var pending = Deadline.pendingExpiries();
+        final Try<Integer> result = Deadline.after(Duration.ofHours(1)).run(() -> {
+            for (var i = 0; i < 100; i++)
+            {
+                Try.async(() -> 1).await();
+            }
+            return 1;
+        });
+
+        assertEquals(Try.success(1), result);
+        final var end = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (Deadline.pendingExpiries() > pending && System.nanoTime() - end < 0L)
+        {
+            Thread.sleep(1);
+        }
+        assertEquals(pending, Deadline.pendingExpiries());
+    }
+
+    @Test
+    void asyncEitherInterruptsTheSupplierOnExpiry() throws InterruptedException
+    {
+        final var interrupted = new CountDownLatch(1);
+        final Try<CompletableFuture<Either<String, Integer>>> future = Deadline.after(Duration.ofMillis(50)).run(() ->
+                AsyncEither.<String, Integer>supplyAsync(() -> {
+                    try
+                    {
+                        Thread.sleep(10_000);
+                    } catch (final InterruptedException e)
+                    {
+                        interrupted.countDown();
+                    }
+                    return Either.right(42);
+                }).toCompletableFuture());
+
+        final var thrown = assertThrows(CompletionException.class, () -> future.get().join());
+        assertInstanceOf(DeadlineExceededException.class, thrown.getCause());
+        assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void tryFutureContinuationIsSkippedOnceTheDeadlineExpired() throws InterruptedException
+    {
+        final var release = new CountDownLatch(1);
+        final var mapped = new AtomicInteger();
+        final var source = Try.async(() -> {
+            release.await();
+            return 1;
+        });
+        final var deadline = Deadline.after(Duration.ofMillis(200));
+        final Try<TryFuture<Integer>> future = deadline.run(() -> source.map(i -> mapped.incrementAndGet()));
+        while (!deadline.isExpired())
+        {
+            Thread.sleep(5);
+        }
+        release.countDown();
+
+        assertInstanceOf(DeadlineExceededException.class, future.get().await(Duration.ofSeconds(5)).getCause());
+        assertEquals(0, mapped.get());
+    }
+
+    @Test
+    void asyncEitherContinuationIsSkippedOnceTheDeadlineExpired() throws InterruptedException
+    {
+        final var release = new CompletableFuture<Either<String, Integer>>();
+        final var mapped = new AtomicInteger();
+        final var source = AsyncEither.fromStage(release);
+        final var deadline = Deadline.after(Duration.ofMillis(200));
+        final Try<AsyncEither<String, Integer>> future = deadline.run(() -> source.map(i -> mapped.incrementAndGet()));
+        while (!deadline.isExpired())
+        {
+            Thread.sleep(5);
+        }
+        release.complete(Either.right(1));
+
+        final var thrown = assertThrows(CompletionException.class, () -> future.get().toCompletableFuture().join());
+        assertInstanceOf(DeadlineExceededException.class, thrown.getCause());
+        assertEquals(0, mapped.get());
+    }
+}
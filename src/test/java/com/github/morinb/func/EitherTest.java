@@ -24,11 +24,15 @@ import org.junit.jupiter.api.Test;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
 import java.util.function.Supplier;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -3074,4 +3078,173 @@ class EitherTest
 
 
 
+    @Test
+    void test_zipOrAccumulatePolicyAllRight()
+    {
+        final Either<String, Integer> either1 = Either.right(10);
+        final Either<String, Integer> either2 = Either.right(20);
+        final Either<String, Integer> either3 = Either.right(30);
+
+        final var result = Either.zipOrAccumulate(AccumulationPolicy.keepFirst(1), either1, either2, either3,
+                (param1, param2, param3) -> param1 + param2 + param3);
+
+        assertTrue(result.isRight());
+        assertEquals(Integer.valueOf(60), result.get());
+    }
+
+    @Test
+    void test_zipOrAccumulatePolicyKeepFirstCountsOthers()
+    {
+        final Either<String, Integer> either1 = Either.left("Error1");
+        final Either<String, Integer> either2 = Either.right(20);
+        final Either<String, Integer> either3 = Either.left("Error3");
+        final Either<String, Integer> either4 = Either.left("Error4");
+
+        final var result = Either.zipOrAccumulate(AccumulationPolicy.keepFirst(2), either1, either2, either3, either4,
+                (param1, param2, param3, param4) -> param1 + param2 + param3 + param4);
+
+        assertTrue(result.isLeft());
+        assertEquals(NonEmptyList.of("Error1", "Error3"), result.getLeft().errors());
+        assertEquals(3, result.getLeft().count());
+        assertEquals(1, result.getLeft().dropped());
+        assertTrue(result.getLeft().isTruncated());
+    }
+
+    @Test
+    void test_zipOrAccumulatePolicyStopAfter()
+    {
+        final Either<String, Integer> either1 = Either.left("Error1");
+        final Either<String, Integer> either2 = Either.left("Error2");
+        final Either<String, Integer> either3 = Either.left("Error3");
+
+        final var result = Either.zipOrAccumulate(AccumulationPolicy.stopAfter(2), either1, either2, either3,
+                (param1, param2, param3) -> param1 + param2 + param3);
+
+        assertEquals(new AccumulatedErrors<>(NonEmptyList.of("Error1", "Error2"), 2), result.getLeft());
+        assertFalse(result.getLeft().isTruncated());
+    }
+
+    @Test
+    void test_sequenceAllRight()
+    {
+        final List<Either<String, Integer>> eithers = List.of(Either.right(1), Either.right(2), Either.right(3));
+
+        final var result = Either.sequence(eithers);
+
+        assertTrue(result.isRight());
+        assertEquals(List.of(1, 2, 3), result.get().toJavaCollection());
+    }
+
+    @Test
+    void test_sequenceAccumulatesEveryLeft()
+    {
+        final List<Either<String, Integer>> eithers = List.of(Either.left("Error1"), Either.right(2), Either.left("Error3"));
+
+        final var result = Either.sequence(eithers);
+
+        assertEquals(NonEmptyList.of("Error1", "Error3"), result.getLeft());
+    }
+
+    @Test
+    void test_traverseKeepFirstCountsEveryLeft()
+    {
+        final var result = Either.traverse(List.of(1, 2, 3, 4, 5, 6),
+                value -> value % 2 == 0 ? Either.left("Error" + value) : Either.right(value),
+                AccumulationPolicy.keepFirst(1));
+
+        assertEquals(NonEmptyList.of("Error2"), result.getLeft().errors());
+        assertEquals(3, result.getLeft().count());
+    }
+
+    @Test
+    void test_traverseStopAfterStopsEvaluating()
+    {
+        final var evaluated = new ArrayList<Integer>();
+
+        final var result = Either.traverse(List.of(1, 2, 3, 4, 5, 6),
+                value -> {
+                    evaluated.add(value);
+                    return value >= 2 ? Either.left("Error" + value) : Either.right(value);
+                },
+                AccumulationPolicy.stopAfter(2));
+
+        assertEquals(NonEmptyList.of("Error2", "Error3"), result.getLeft().errors());
+        assertEquals(List.of(1, 2, 3), evaluated);
+    }
+
+    @Test
+    void test_accumulationPolicyRejectsNonPositiveMaxErrors()
+    {
+        assertThrows(IllegalArgumentException.class, () -> AccumulationPolicy.keepFirst(0));
+        assertThrows(IllegalArgumentException.class, () -> AccumulationPolicy.stopAfter(-1));
+    }
+
+    @Test
+    void testNoopAndEmptyAreShared()
+    {
+        assertSame(Either.noop(), Either.noop());
+        assertSame(Either.empty(), Either.empty());
+        assertSame(Either.noop(), Either.right(null));
+        assertSame(Either.empty(), Either.left(null));
+    }
+
+    @Test
+    void testCanonicalRightsAreShared()
+    {
+        assertSame(Either.right(true), Either.right(Boolean.TRUE));
+        assertSame(Either.right(false), Either.right(Boolean.FALSE));
+        assertSame(Either.right(127), Either.right(127));
+        assertNotSame(Either.right(1000), Either.right(1000));
+    }
+
+    @Test
+    void testCanonicalRightKeepsValueIdentity()
+    {
+        @SuppressWarnings({"removal", "deprecation", "UnnecessaryBoxing"})
+        final var boxed = new Integer(1);
+
+        assertSame(boxed, Either.right(boxed).get());
+    }
+
+    @Test
+    void testSingleValuedQueriesOnRight()
+    {
+        final Either<String, Integer> right = Either.right(10);
+        final var visited = new ArrayList<Integer>();
+        right.forEach(visited::add);
+
+        assertTrue(right.contains(10));
+        assertFalse(right.contains(11));
+        assertTrue(right.exists(i -> i > 5));
+        assertFalse(right.forAll(i -> i > 50));
+        assertEquals(List.of(10), visited);
+    }
+
+    @Test
+    void testSingleValuedQueriesOnLeft()
+    {
+        final Either<String, Integer> left = Either.left("Error");
+        final var visited = new ArrayList<Integer>();
+        left.forEach(visited::add);
+
+        assertFalse(left.contains(null));
+        assertFalse(left.exists(i -> true));
+        assertTrue(left.forAll(i -> false));
+        assertTrue(visited.isEmpty());
+        assertThrows(NullPointerException.class, () -> left.exists(null));
+        assertThrows(NullPointerException.class, () -> left.forEach(null));
+    }
+
+    @Test
+    void mapToPrimitiveAppliesToRightOnly()
+    {
+        final Either<String, String> right = Either.right("abc");
+        final Either<String, String> left = Either.left("error");
+
+        assertEquals(OptionalInt.of(3), right.mapToInt(String::length));
+        assertEquals(OptionalLong.of(3L), right.mapToLong(String::length));
+        assertEquals(OptionalDouble.of(1.5), right.mapToDouble(s -> s.length() / 2.0));
+        assertEquals(OptionalInt.empty(), left.mapToInt(String::length));
+        assertEquals(OptionalLong.empty(), left.mapToLong(String::length));
+    }
 }
\ No newline at end of file
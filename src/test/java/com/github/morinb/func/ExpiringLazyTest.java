@@ -0,0 +1,228 @@
+/*
+ * Copyright 2026 Baptiste MORIN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.morinb.func;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ExpiringLazyTest
+{
+
+    private final AtomicLong now = new AtomicLong();
+    private final AtomicInteger calls = new AtomicInteger();
+    private final ArrayDeque<Runnable> tasks = new ArrayDeque<>();
+
+    private ExpiringLazy<Integer> expiring(final long timeToLive)
+    {
+        return new ExpiringLazy<>(calls::incrementAndGet, timeToLive, 0L, tasks::add, now::get);
+    }
+
+    @Test
+    void valueIsKeptUntilExpiry()
+    {
+        final var lazy = expiring(100);
+
+        assertFalse(lazy.isEvaluated());
+        assertEquals(1, lazy.get());
+        now.set(99);
+        assertEquals(1, lazy.get());
+        assertTrue(lazy.isEvaluated());
+        now.set(100);
+        assertFalse(lazy.isEvaluated());
+        assertEquals(2, lazy.get());
+    }
+
+    @Test
+    void invalidateForcesRecomputation()
+    {
+        final var lazy = expiring(100);
+        lazy.get();
+        lazy.invalidate();
+
+        assertEquals(2, lazy.get());
+    }
+
+    @Test
+    void refreshAheadKeepsServingTheCurrentValue()
+    {
+        final var lazy = expiring(100).refreshAhead(Duration.ofNanos(20), tasks::add);
+        assertEquals(1, lazy.get());
+
+        now.set(85);
+        assertEquals(1, lazy.get());
+        assertEquals(1, lazy.get());
+        assertEquals(1, tasks.size());
+
+        tasks.poll().run();
+        assertEquals(2, lazy.get());
+        now.set(150);
+        assertEquals(2, lazy.get());
+        assertTrue(tasks.isEmpty());
+    }
+
+    @Test
+    void failedRefreshKeepsTheCurrentValue()
+    {
+        final var failing = new AtomicInteger();
+        final var lazy = new ExpiringLazy<Integer>(() -> {
+            if (failing.incrementAndGet() > 1)
+            {
+                throw new IllegalStateException();
+            }
+            return 1;
+        }, 100, 20, tasks::add, now::get);
+        lazy.get();
+        now.set(90);
+        lazy.get();
+
+        tasks.poll().run();
+
+        assertEquals(1, lazy.get());
+        assertEquals(1, tasks.size());
+    }
+
+    @Test
+    void refreshQueuedBeforeInvalidateIsDropped()
+    {
+        final var lazy = expiring(100).refreshAhead(Duration.ofNanos(20), tasks::add);
+        lazy.get();
+        now.set(90);
+        lazy.get();
+        lazy.invalidate();
+
+        tasks.poll().run();
+
+        assertFalse(lazy.isEvaluated());
+        assertEquals(1, calls.get());
+        assertEquals(2, lazy.get());
+    }
+
+    @Test
+    void refreshRacingInvalidateDoesNotRestoreAValue()
+    {
+        final var holder = new AtomicReference<ExpiringLazy<Integer>>();
+        final var lazy = new ExpiringLazy<Integer>(() -> {
+            final var call = calls.incrementAndGet();
+            if (call == 2)
+            {
+                holder.get().invalidate();
+            }
+            return call;
+        }, 100, 20, tasks::add, now::get);
+        holder.set(lazy);
+        lazy.get();
+        now.set(90);
+        lazy.get();
+
+        tasks.poll().run();
+
+        assertFalse(lazy.isEvaluated());
+        assertEquals(3, lazy.get());
+    }
+
+    @Test
+    void refreshDoesNotOverwriteANewerValue()
+    {
+        final var lazy = expiring(100).refreshAhead(Duration.ofNanos(20), tasks::add);
+        lazy.get();
+        now.set(90);
+        lazy.get();
+        now.set(100);
+        assertEquals(2, lazy.get());
+
+        tasks.poll().run();
+
+        assertEquals(2, lazy.get());
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    void loadWaitsForARunningRefresh() throws InterruptedException
+    {
+        final var running = new AtomicInteger();
+        final var maxRunning = new AtomicInteger();
+        final var refreshStarted = new CountDownLatch(1);
+        final var releaseRefresh = new CountDownLatch(1);
+        final var lazy = new ExpiringLazy<Integer>(() -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            final var call = calls.incrementAndGet();
+            if (call == 2)
+            {
+                refreshStarted.countDown();
+                try
+                {
+                    releaseRefresh.await();
+                } catch (final InterruptedException e)
+                {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            running.decrementAndGet();
+            return call;
+        }, 100, 20, runnable -> new Thread(runnable).start(), now::get);
+        lazy.get();
+        now.set(90);
+        lazy.get();
+        assertTrue(refreshStarted.await(5, TimeUnit.SECONDS));
+
+        now.set(200);
+        final var result = new AtomicInteger();
+        final var reader = new Thread(() -> result.set(lazy.get()));
+        reader.start();
+        final var end = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (reader.getState() != Thread.State.WAITING && System.nanoTime() - end < 0L)
+        {
+            Thread.sleep(1);
+        }
+        releaseRefresh.countDown();
+        reader.join();
+
+        assertEquals(1, maxRunning.get());
+        assertEquals(2, result.get());
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    void expireAfterWriteUsesTheSystemClock()
+    {
+        final var lazy = Lazy.expireAfterWrite(Duration.ofHours(1), calls::incrementAndGet);
+
+        assertEquals(1, lazy.get());
+        assertEquals(1, lazy.get());
+        assertEquals("ExpiringLazy(1)", lazy.toString());
+    }
+
+    @Test
+    void invalidDurationsAreRejected()
+    {
+        assertThrows(IllegalArgumentException.class, () -> Lazy.expireAfterWrite(Duration.ZERO, () -> 1));
+        assertThrows(IllegalArgumentException.class,
+                () -> Lazy.expireAfterWrite(Duration.ofSeconds(1), () -> 1).refreshAhead(Duration.ofSeconds(2)));
+    }
+}
@@ -18,6 +18,7 @@ package com.github.morinb.func;
 
 import org.junit.jupiter.api.Test;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -278,4 +279,23 @@ class FListTest
         final FList<Integer> fList = FList.empty();
         assertThrows(NullPointerException.class, fList::toNonEmptyList);
     }
+
+    @Test
+    void mapToIntTest_shouldReturnTheResultsInOrder() {
+        final var fList = FList.of("a", "bb", "ccc");
+        assertArrayEquals(new int[]{1, 2, 3}, fList.mapToInt(String::length));
+        assertArrayEquals(new long[]{1L, 2L, 3L}, fList.mapToLong(String::length));
+        assertArrayEquals(new double[]{0.5, 1.0, 1.5}, fList.mapToDouble(s -> s.length() / 2.0));
+        assertArrayEquals(new int[0], FList.<String>empty().mapToInt(String::length));
+    }
+
+    @Test
+    void sumTest_shouldAddTheResults() {
+        final var fList = FList.of("a", "bb", "ccc");
+        assertEquals(6, fList.sumInt(String::length));
+        assertEquals(6L, fList.sumLong(String::length));
+        assertEquals(3.0, fList.sumDouble(s -> s.length() / 2.0));
+        assertEquals(0L, FList.<String>empty().sumLong(String::length));
+        assertThrows(NullPointerException.class, () -> fList.sumInt(null));
+    }
 }
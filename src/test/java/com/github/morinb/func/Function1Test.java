@@ -19,6 +19,8 @@ package com.github.morinb.func;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.util.concurrent.atomic.AtomicInteger;
+
 class Function1Test
 {
 
@@ -97,4 +99,66 @@ class Function1Test
         final int actualReturn3 = curriedFunc.apply(testStr3);
         Assertions.assertEquals(expectedReturn3, actualReturn3);
     }
+
+    @Test
+    void testFixComputesEachSubresultOnce()
+    {
+        final var evaluations = new AtomicInteger();
+        final Function1<Integer, Long> fibonacci = Function1.fix((self, n) -> {
+            evaluations.incrementAndGet();
+            return n < 2
+                    ? Trampoline.done((long) n)
+                    : self.apply(n - 1).flatMap(a -> self.apply(n - 2).map(b -> a + b));
+        });
+
+        Assertions.assertEquals(2_880_067_194_370_816_120L, fibonacci.apply(90));
+        Assertions.assertEquals(91, evaluations.get());
+    }
+
+    @Test
+    void testFixIsStackSafe()
+    {
+        final Function1<Integer, Long> sum = Function1.fix((self, n) -> n == 0
+                ? Trampoline.done(0L)
+                : self.apply(n - 1).map(s -> s + n));
+
+        Assertions.assertEquals(200_000L * 200_001L / 2, sum.apply(200_000));
+    }
+
+    @Test
+    void testFixScopesTheCacheToOneCall()
+    {
+        final var evaluations = new AtomicInteger();
+        final Function1<Integer, Integer> countDown = Function1.fix((self, n) -> {
+            evaluations.incrementAndGet();
+            return n == 0 ? Trampoline.done(0) : self.apply(n - 1);
+        });
+
+        countDown.apply(10);
+        countDown.apply(10);
+
+        Assertions.assertEquals(22, evaluations.get());
+    }
+
+    @Test
+    void testFixSolvesEditDistance()
+    {
+        final var from = "kitten";
+        final var to = "sitting";
+        final Function1<Pair<Integer, Integer>, Integer> distance = Function1.fix((self, p) -> {
+            final int i = p.first();
+            final int j = p.second();
+            if (i == 0 || j == 0)
+            {
+                return Trampoline.done(i + j);
+            }
+            final var cost = from.charAt(i - 1) == to.charAt(j - 1) ? 0 : 1;
+            return self.apply(new Pair<>(i - 1, j)).flatMap(deletion ->
+                    self.apply(new Pair<>(i, j - 1)).flatMap(insertion ->
+                            self.apply(new Pair<>(i - 1, j - 1)).map(substitution ->
+                                    Math.min(Math.min(deletion, insertion) + 1, substitution + cost))));
+        });
+
+        Assertions.assertEquals(3, distance.apply(new Pair<>(from.length(), to.length())));
+    }
 }
@@ -18,6 +18,8 @@ package com.github.morinb.func;
 
 import org.junit.jupiter.api.Test;
 
+import java.util.concurrent.atomic.AtomicInteger;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 class Function2Test
@@ -58,4 +60,33 @@ class Function2Test
         assertEquals((5 + 7) * 2, result);
     }
 
+    @Test
+    void testMemoized()
+    {
+        final var calls = new AtomicInteger();
+        final Function2<Integer, Integer, Integer> addFunction = (Integer a, Integer b) -> {
+            calls.incrementAndGet();
+            return a + b;
+        };
+        final var memoized = addFunction.memoized();
+
+        assertEquals(12, memoized.apply(5, 7));
+        assertEquals(12, memoized.apply(5, 7));
+        assertEquals(13, memoized.apply(6, 7));
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    void testMemoized_sharedCacheKeepsFunctionsApart()
+    {
+        final MemoCache<Integer> cache = MemoCache.lru(16);
+        final Function2<Integer, Integer, Integer> addFunction = Integer::sum;
+        final Function2<Integer, Integer, Integer> multiplyFunction = (Integer a, Integer b) -> a * b;
+
+        assertEquals(12, addFunction.memoized(cache).apply(5, 7));
+        assertEquals(35, multiplyFunction.memoized(cache).apply(5, 7));
+        assertEquals(12, addFunction.memoized(cache).apply(5, 7));
+        assertEquals(2, cache.size());
+    }
+
 }
\ No newline at end of file
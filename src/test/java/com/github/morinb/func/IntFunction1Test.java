@@ -0,0 +1,51 @@
+/*
+ * Copyright 2026 Baptiste MORIN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.morinb.func;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class IntFunction1Test
+{
+
+    @Test
+    void testApply()
+    {
+        final IntFunction1<String> repeat = (int n) -> "x".repeat(n);
+
+        assertEquals("xxx", repeat.apply(3));
+    }
+
+    @Test
+    void testAndThen()
+    {
+        final IntFunction1<String> repeat = (int n) -> "x".repeat(n);
+        final var composed = repeat.andThen(s -> s + "!");
+
+        assertEquals("xx!", composed.apply(2));
+    }
+
+    @Test
+    void testCurried()
+    {
+        final IntFunction1<String> repeat = (int n) -> "x".repeat(n);
+
+        assertSame(repeat, repeat.curried());
+    }
+}
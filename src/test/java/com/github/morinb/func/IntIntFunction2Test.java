@@ -0,0 +1,50 @@
+/*
+ * Copyright 2026 Baptiste MORIN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.morinb.func;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class IntIntFunction2Test
+{
+
+    @Test
+    void testApply()
+    {
+        final IntIntFunction2 addFunction = Integer::sum;
+
+        assertEquals(12, addFunction.applyAsInt(5, 7));
+    }
+
+    @Test
+    void testCurried()
+    {
+        final IntIntFunction2 addFunction = Integer::sum;
+
+        assertEquals(12, addFunction.curried().apply(5).applyAsInt(7));
+    }
+
+    @Test
+    void testAndThen()
+    {
+        final IntIntFunction2 addFunction = Integer::sum;
+        final var composedFunction = addFunction.andThen(a -> a * 2);
+
+        assertEquals((5 + 7) * 2, composedFunction.applyAsInt(5, 7));
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2026 Baptiste MORIN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.morinb.func;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LazyEvaluationEventTest
+{
+
+    private static final String EVENT = "com.github.morinb.func.LazyEvaluation";
+
+    private static List<RecordedEvent> record(final Path directory, final Runnable action) throws IOException
+    {
+        final var file = directory.resolve("lazy.jfr");
+        try (final var recording = new Recording())
+        {
+            recording.enable(EVENT).withThreshold(Duration.ZERO);
+            recording.start();
+            action.run();
+            recording.stop();
+            recording.dump(file);
+        }
+        return RecordingFile.readAllEvents(file).stream()
+                .filter(event -> EVENT.equals(event.getEventType().getName()))
+                .toList();
+    }
+
+    @Test
+    void evaluationIsRecordedWithItsLabel(@TempDir final Path directory) throws IOException
+    {
+        final var lazy = Lazy.labeled("reference-data", () -> {
+            LockSupport.parkNanos(1_000_000L);
+            return 42;
+        });
+
+        final var events = record(directory, lazy::get);
+
+        assertEquals(1, events.size());
+        assertEquals("reference-data", events.get(0).getString("label"));
+        assertEquals(0, events.get(0).getInt("waiters"));
+        assertFalse(events.get(0).getBoolean("failed"));
+        assertTrue(events.get(0).getDuration().toNanos() >= 1_000_000L);
+    }
+
+    @Test
+    void failedEvaluationIsRecorded(@TempDir final Path directory) throws IOException
+    {
+        final Lazy<Integer> lazy = Lazy.of(() -> {
+            throw new IllegalStateException();
+        });
+
+        final var events = record(directory, () -> assertThrows(IllegalStateException.class, lazy::get));
+
+        assertEquals(1, events.size());
+        assertTrue(events.get(0).getBoolean("failed"));
+    }
+
+    @Test
+    void readsOfEvaluatedValuesAreNotRecorded(@TempDir final Path directory) throws IOException
+    {
+        final var lazy = Lazy.of(() -> 1);
+        lazy.get();
+
+        assertTrue(record(directory, lazy::get).isEmpty());
+    }
+
+    @Test
+    void eventIsOnlyCreatedWhileARecordingEnablesIt(@TempDir final Path directory) throws IOException
+    {
+        final var enabled = new AtomicBoolean();
+
+        assertFalse(LazyEvents.isEnabled());
+        record(directory, () -> enabled.set(LazyEvents.isEnabled()));
+        assertTrue(enabled.get());
+        assertFalse(LazyEvents.isEnabled());
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2026 Baptiste MORIN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.morinb.func;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+class LazyMetricsTest
+{
+
+    @Test
+    void metricsAreDisabledByDefault()
+    {
+        final var before = LazyMetrics.evaluations();
+        Lazy.of(() -> 1).get();
+
+        assertFalse(LazyMetrics.isEnabled());
+        assertEquals(before, LazyMetrics.evaluations());
+    }
+
+    @Test
+    void evaluationsAreCountedWithTheirComputeTime()
+    {
+        LazyMetrics.reset();
+
+        LazyMetrics.recordEvaluation(100L, false);
+        LazyMetrics.recordEvaluation(250L, true);
+        LazyMetrics.recordEvaluation(50L, false);
+
+        assertEquals(3L, LazyMetrics.evaluations());
+        assertEquals(1L, LazyMetrics.failures());
+        assertEquals(400L, LazyMetrics.computeNanos());
+        assertEquals(0L, LazyMetrics.waits());
+    }
+
+    @Test
+    void waitsAreCounted()
+    {
+        LazyMetrics.reset();
+
+        LazyMetrics.recordWait();
+        LazyMetrics.recordWait();
+
+        assertEquals(2L, LazyMetrics.waits());
+        assertEquals(0L, LazyMetrics.evaluations());
+    }
+
+    @Test
+    void resetClearsEveryCounter()
+    {
+        LazyMetrics.recordEvaluation(10L, true);
+        LazyMetrics.recordWait();
+
+        LazyMetrics.reset();
+
+        assertEquals(0L, LazyMetrics.evaluations());
+        assertEquals(0L, LazyMetrics.failures());
+        assertEquals(0L, LazyMetrics.waits());
+        assertEquals(0L, LazyMetrics.computeNanos());
+    }
+}
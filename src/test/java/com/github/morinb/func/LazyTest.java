@@ -18,11 +18,25 @@ package com.github.morinb.func;
 
 import org.junit.jupiter.api.Test;
 
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
 import java.util.Objects;
+import java.util.concurrent.BrokenBarrierException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
 import java.util.function.Supplier;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -119,4 +133,419 @@ class LazyTest
 
     }
 
-}
\ No newline at end of file
+    @Test
+    void lazySingleValuedQueriesEvaluateOnce()
+    {
+        final var lazy = Lazy.of(() -> 3);
+        final var visited = new StringBuilder();
+        lazy.forEach(visited::append);
+
+        assertTrue(lazy.isEvaluated());
+        assertTrue(lazy.contains(3));
+        assertTrue(lazy.exists(i -> i == 3));
+        assertTrue(lazy.forAll(i -> i > 0));
+        assertEquals("3", visited.toString());
+    }
+
+    @Test
+    void concurrentFirstEvaluationRunsSupplierOnce() throws InterruptedException
+    {
+        final var calls = new AtomicInteger();
+        final var lazy = Lazy.of(() -> {
+            calls.incrementAndGet();
+            LockSupport.parkNanos(20_000_000L);
+            return "value";
+        });
+        final var start = new CountDownLatch(1);
+        final var results = new ConcurrentLinkedQueue<String>();
+        final var threads = new ArrayList<Thread>();
+        for (var i = 0; i < 32; i++)
+        {
+            final var thread = new Thread(() -> {
+                try
+                {
+                    start.await();
+                } catch (final InterruptedException e)
+                {
+                    Thread.currentThread().interrupt();
+                }
+                results.add(lazy.get());
+            });
+            thread.start();
+            threads.add(thread);
+        }
+        start.countDown();
+        for (final Thread thread : threads)
+        {
+            thread.join();
+        }
+
+        assertEquals(1, calls.get());
+        assertEquals(32, results.size());
+        assertTrue(results.stream().allMatch("value"::equals));
+    }
+
+    @Test
+    void evaluationStormOnDefaultExecutorRunsEachSupplierOnce() throws InterruptedException
+    {
+        final var lazies = new ArrayList<Lazy<Integer>>();
+        final var calls = new AtomicInteger();
+        for (var i = 0; i < 100; i++)
+        {
+            final var value = i;
+            lazies.add(Lazy.of(() -> {
+                calls.incrementAndGet();
+                return value;
+            }));
+        }
+        final var done = new CountDownLatch(10_000);
+        final var sum = new AtomicLong();
+        for (var i = 0; i < 10_000; i++)
+        {
+            final var lazy = lazies.get(i % 100);
+            DefaultExecutor.get().execute(() -> {
+                sum.addAndGet(lazy.get());
+                done.countDown();
+            });
+        }
+
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        assertEquals(100, calls.get());
+        assertEquals(100L * 4950, sum.get());
+    }
+
+    @Test
+    void failedEvaluationIsRetried()
+    {
+        final var calls = new AtomicInteger();
+        final var lazy = Lazy.of(() -> {
+            if (calls.incrementAndGet() == 1)
+            {
+                throw new IllegalStateException("first");
+            }
+            return "second";
+        });
+
+        assertThrows(IllegalStateException.class, lazy::get);
+        assertFalse(lazy.isEvaluated());
+        assertEquals("second", lazy.get());
+        assertTrue(lazy.isEvaluated());
+    }
+
+    @Test
+    void recursiveEvaluationFails()
+    {
+        final var holder = new ArrayList<Lazy<Integer>>();
+        holder.add(Lazy.of(() -> holder.get(0).get() + 1));
+
+        assertThrows(IllegalStateException.class, () -> holder.get(0).get());
+    }
+
+    private static void awaitParked(final Thread thread) throws InterruptedException
+    {
+        final var end = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (thread.getState() != Thread.State.WAITING)
+        {
+            assertTrue(System.nanoTime() - end < 0L, "thread did not park");
+            Thread.sleep(1);
+        }
+    }
+
+    @Test
+    void waiterKeepsItsInterruptStatus() throws InterruptedException
+    {
+        final var started = new CountDownLatch(1);
+        final var release = new CountDownLatch(1);
+        final var lazy = Lazy.of(() -> {
+            started.countDown();
+            try
+            {
+                release.await();
+            } catch (final InterruptedException e)
+            {
+                Thread.currentThread().interrupt();
+            }
+            return 1;
+        });
+        final var owner = new Thread(lazy::get);
+        owner.start();
+        started.await();
+        final var interrupted = new AtomicInteger();
+        final var waiter = new Thread(() -> {
+            Thread.currentThread().interrupt();
+            lazy.get();
+            interrupted.set(Thread.currentThread().isInterrupted() ? 1 : 0);
+        });
+        waiter.start();
+        awaitParked(waiter);
+        release.countDown();
+        owner.join();
+        waiter.join();
+
+        assertEquals(1, interrupted.get());
+    }
+
+    @Test
+    void deepMapChainIsStackSafe()
+    {
+        var lazy = Lazy.of(() -> 0);
+        for (var i = 0; i < 100_000; i++)
+        {
+            lazy = lazy.map(n -> n + 1);
+        }
+
+        assertEquals(100_000, lazy.get());
+    }
+
+    @Test
+    void deepFlatMapChainIsStackSafe()
+    {
+        var lazy = Lazy.of(() -> 0);
+        for (var i = 0; i < 100_000; i++)
+        {
+            lazy = lazy.flatMap(n -> Lazy.of(() -> n + 1));
+        }
+
+        assertEquals(100_000, lazy.get());
+    }
+
+    @Test
+    void recursiveFlatMapIsStackSafe()
+    {
+        assertEquals(100_000, countDown(100_000).get());
+    }
+
+    @Test
+    void recursiveFlatMapMemoizesTheReturnedLazy()
+    {
+        final var inner = Lazy.of(() -> 1).map(n -> n + 1);
+        final var outer = Lazy.of(() -> 0).flatMap(n -> inner);
+
+        assertEquals(2, outer.get());
+        assertTrue(inner.isEvaluated());
+    }
+
+    private static Lazy<Integer> countDown(final int n)
+    {
+        return Lazy.of(() -> n).flatMap(i -> i == 0 ? Lazy.of(() -> 0) : countDown(i - 1).map(r -> r + 1));
+    }
+
+    @Test
+    void chainEvaluationMemoizesIntermediateLinks()
+    {
+        final var calls = new AtomicInteger();
+        final var base = Lazy.of(calls::incrementAndGet);
+        final var middle = base.map(n -> n * 10);
+        final var top = middle.map(n -> n + 1);
+
+        assertFalse(middle.isEvaluated());
+        assertEquals(11, top.get());
+        assertTrue(base.isEvaluated());
+        assertTrue(middle.isEvaluated());
+        assertEquals(10, middle.get());
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void chainStopsAtEvaluatedLink()
+    {
+        final var calls = new AtomicInteger();
+        final var middle = Lazy.of(() -> 1).map(n -> {
+            calls.incrementAndGet();
+            return n + 1;
+        });
+        middle.get();
+
+        assertEquals(3, middle.map(n -> n + 1).get());
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void failedLinkLeavesTheChainRetryable()
+    {
+        final var failures = new AtomicInteger(1);
+        final var middle = Lazy.of(() -> 1).map(n -> {
+            if (failures.getAndDecrement() > 0)
+            {
+                throw new IllegalStateException();
+            }
+            return n + 1;
+        });
+        final var top = middle.map(n -> n * 2);
+
+        assertThrows(IllegalStateException.class, top::get);
+        assertFalse(middle.isEvaluated());
+        assertEquals(4, top.get());
+    }
+
+    private static <T> Lazy<T> meeting(final CyclicBarrier barrier, final T value)
+    {
+        return Lazy.of(() -> {
+            try
+            {
+                barrier.await(5, TimeUnit.SECONDS);
+            } catch (final InterruptedException e)
+            {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            } catch (final BrokenBarrierException | TimeoutException e)
+            {
+                throw new IllegalStateException("suppliers did not run concurrently", e);
+            }
+            return value;
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <E extends Throwable> void sneakyThrow(final Throwable throwable) throws E
+    {
+        throw (E) throwable;
+    }
+
+    @Test
+    void zipEvaluatesBothSidesConcurrently()
+    {
+        final var barrier = new CyclicBarrier(2);
+        final var zipped = Lazy.zip(meeting(barrier, 2), meeting(barrier, 3), (a, b) -> a * b);
+
+        assertEquals(6, zipped.get());
+    }
+
+    @Test
+    void sequenceKeepsOrderAndRunsConcurrently()
+    {
+        final var barrier = new CyclicBarrier(3);
+        final var sequence = Lazy.sequence(FList.of(meeting(barrier, "a"), meeting(barrier, "b"),
+                meeting(barrier, "c"), Lazy.of(() -> "d")));
+
+        assertEquals(FList.of("a", "b", "c", "d"), sequence.get());
+    }
+
+    @Test
+    void parGetSkipsEvaluatedValues()
+    {
+        final var calls = new AtomicInteger();
+        final var evaluated = Lazy.of(calls::incrementAndGet);
+        evaluated.get();
+        final var pending = Lazy.of(calls::incrementAndGet);
+
+        Lazy.parGet(evaluated, pending);
+
+        assertTrue(pending.isEvaluated());
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    void parGetRethrowsFailureAfterEveryEvaluation()
+    {
+        final var failed = new CountDownLatch(1);
+        final var other = Lazy.of(() -> {
+            try
+            {
+                assertTrue(failed.await(5, TimeUnit.SECONDS));
+            } catch (final InterruptedException e)
+            {
+                Thread.currentThread().interrupt();
+            }
+            return 1;
+        });
+        final Lazy<Integer> failing = Lazy.of(() -> {
+            failed.countDown();
+            throw new IllegalStateException();
+        });
+
+        assertThrows(IllegalStateException.class, () -> Lazy.parGet(other, failing));
+        assertTrue(other.isEvaluated());
+        assertFalse(failing.isEvaluated());
+    }
+
+    @Test
+    void parGetWrapsCheckedExceptions()
+    {
+        final var checked = new IOException("boom");
+        final Lazy<Integer> failing = Lazy.of(() -> {
+            LazyTest.<RuntimeException>sneakyThrow(checked);
+            return 1;
+        });
+        final var other = Lazy.of(() -> 2);
+
+        final var thrown = assertThrows(IllegalStateException.class, () -> Lazy.parGet(failing, other));
+        assertSame(checked, thrown.getCause());
+        assertTrue(other.isEvaluated());
+
+        final Lazy<Integer> last = Lazy.of(() -> {
+            LazyTest.<RuntimeException>sneakyThrow(checked);
+            return 1;
+        });
+        final var rethrown = assertThrows(IllegalStateException.class, () -> Lazy.parGet(Lazy.of(() -> 3), last));
+        assertSame(checked, rethrown.getCause());
+    }
+
+    @Test
+    void identityKeyedLazyIsNeverEvaluatedAsAKey()
+    {
+        final var calls = new AtomicInteger();
+        final var lazy = Lazy.identityKeyed(calls::incrementAndGet);
+        final var map = new HashMap<Lazy<Integer>, String>();
+
+        map.put(lazy, "value");
+
+        assertEquals("value", map.get(lazy));
+        assertFalse(lazy.isEvaluated());
+        assertEquals(0, calls.get());
+        assertNotEquals(Lazy.of(() -> 1), lazy);
+        assertNotEquals(lazy, Lazy.identityKeyed(() -> 1));
+        assertEquals(System.identityHashCode(lazy), lazy.hashCode());
+    }
+
+    @Test
+    void serializableLazyShipsItsSupplier()
+    {
+        final Lazy<Integer> lazy = Lazy.serializable(() -> 6 * 7);
+
+        final Lazy<Integer> copy = Serializers.deserialize(Serializers.serialize(lazy));
+
+        assertFalse(lazy.isEvaluated());
+        assertFalse(copy.isEvaluated());
+        assertEquals(42, copy.get());
+        assertTrue(copy.isEvaluated());
+    }
+
+    @Test
+    void evaluatedSerializableLazyShipsItsValue()
+    {
+        final Lazy<Integer> lazy = Lazy.serializable(() -> 6 * 7);
+        lazy.get();
+
+        final Lazy<Integer> copy = Serializers.deserialize(Serializers.serialize(lazy));
+
+        assertTrue(copy.isEvaluated());
+        assertEquals(42, copy.get());
+    }
+
+    @Test
+    void identityKeyedSerializableLazyKeepsBothModes()
+    {
+        final Lazy<String> lazy = Lazy.identityKeyedSerializable(() -> "value");
+
+        final Lazy<String> copy = Serializers.deserialize(Serializers.serialize(lazy));
+
+        assertFalse(copy.isEvaluated());
+        assertEquals(System.identityHashCode(copy), copy.hashCode());
+        assertEquals("value", copy.get());
+    }
+
+    @Test
+    void lazySerializedWithoutModeIsReadWithTheDefaultMode()
+    {
+        final byte[] stream = Base64.getDecoder().decode("rO0ABXNyABtjb20uZ2l0aHViLm1vcmluYi5mdW5jLkxhenmnYVFiTFCaOwMAAU"
+                + "wABXZhbHVldAASTGphdmEvbGFuZy9PYmplY3Q7eHB0AAV2YWx1ZXg=");
+
+        final Lazy<String> copy = Serializers.deserialize(stream);
+
+        assertTrue(copy.isEvaluated());
+        assertEquals("value", copy.get());
+        assertEquals(Lazy.of(() -> "value"), copy);
+        assertEquals("value".hashCode(), copy.hashCode());
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2026 Baptiste MORIN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.morinb.func;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class MappedLinesTest
+{
+
+    private static List<String> read(final Path file, final int window) throws IOException
+    {
+        final var result = new ArrayList<String>();
+        try (final var lines = new MappedLines(file, StandardCharsets.UTF_8, window))
+        {
+            lines.forEachRemaining(result::add);
+        }
+        return result;
+    }
+
+    @Test
+    void linesCrossingWindowsAreReadWhole(@TempDir final Path directory) throws IOException
+    {
+        final var file = Files.writeString(directory.resolve("lines.txt"), "alpha\nbeta\ngamma-delta-epsilon\nz\n");
+
+        assertEquals(List.of("alpha", "beta", "gamma-delta-epsilon", "z"), read(file, 4));
+    }
+
+    @Test
+    void multiByteCharactersAreDecoded(@TempDir final Path directory) throws IOException
+    {
+        final var file = Files.writeString(directory.resolve("lines.txt"), "été\r\nnaïve");
+
+        assertEquals(List.of("été", "naïve"), read(file, 3));
+    }
+
+    @Test
+    void emptyFileHasNoLine(@TempDir final Path directory) throws IOException
+    {
+        final var file = Files.createFile(directory.resolve("empty.txt"));
+
+        try (final var lines = new MappedLines(file, StandardCharsets.UTF_8, 8))
+        {
+            assertFalse(lines.hasNext());
+            assertThrows(NoSuchElementException.class, lines::next);
+        }
+    }
+
+    @Test
+    void lineLongerThanTheMaximumWindowFails(@TempDir final Path directory) throws IOException
+    {
+        final var file = Files.writeString(directory.resolve("lines.txt"), "short\n" + "x".repeat(40) + "\n");
+
+        try (final var lines = new MappedLines(file, StandardCharsets.UTF_8, 4, 16))
+        {
+            assertEquals("short", lines.next());
+            final var thrown = assertThrows(UncheckedIOException.class, lines::hasNext);
+            assertInstanceOf(IOException.class, thrown.getCause());
+        }
+    }
+}
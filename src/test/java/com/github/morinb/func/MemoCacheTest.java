@@ -0,0 +1,243 @@
+/*
+ * Copyright 2026 Baptiste MORIN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.morinb.func;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MemoCacheTest
+{
+
+    @Test
+    void getComputesOnceAndCountsHitsAndMisses()
+    {
+        final var calls = new AtomicInteger();
+        final MemoCache<String> cache = MemoCache.lru(10);
+
+        assertEquals("a1", cache.get("a", () -> "a" + calls.incrementAndGet()));
+        assertEquals("a1", cache.get("a", () -> "a" + calls.incrementAndGet()));
+
+        assertEquals(1, calls.get());
+        assertEquals(new MemoCache.Stats(1, 1, 0), cache.stats());
+        assertEquals(0.5, cache.stats().hitRate());
+    }
+
+    @Test
+    void nullKeysAndValuesAreCached()
+    {
+        final var calls = new AtomicInteger();
+        final MemoCache<String> cache = MemoCache.lru(10);
+
+        assertNull(cache.get(null, () -> {
+            calls.incrementAndGet();
+            return null;
+        }));
+        assertNull(cache.get(null, () -> "other"));
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void sizeNeverExceedsTheMaximum()
+    {
+        final MemoCache<Integer> cache = MemoCache.lru(100);
+
+        for (var i = 0; i < 10_000; i++)
+        {
+            final var key = i;
+            cache.get(key, () -> key);
+        }
+
+        assertTrue(cache.size() <= 100);
+        assertEquals(10_000 - cache.size(), cache.stats().evictions());
+    }
+
+    @Test
+    void leastRecentlyUsedEntryIsEvicted()
+    {
+        final MemoCache<String> cache = MemoCache.lru(2);
+        final var calls = new AtomicInteger();
+
+        cache.get("a", () -> "a");
+        cache.get("b", () -> "b");
+        cache.get("a", () -> "a");
+        cache.get("c", () -> "c");
+        cache.get("a", () -> "a" + calls.incrementAndGet());
+
+        assertEquals(0, calls.get());
+    }
+
+    @Test
+    void entriesExpireAfterTheTimeToLive()
+    {
+        final var now = new AtomicLong();
+        final var calls = new AtomicInteger();
+        final var cache = new MemoCache<Integer>(10, 100L, now::get);
+
+        assertEquals(1, cache.get("k", calls::incrementAndGet));
+        now.set(99L);
+        assertEquals(1, cache.get("k", calls::incrementAndGet));
+        now.set(100L);
+        assertEquals(2, cache.get("k", calls::incrementAndGet));
+    }
+
+    @Test
+    void failuresAreNotCached()
+    {
+        final MemoCache<Integer> cache = MemoCache.lru(10);
+
+        assertThrows(IOException.class, () -> cache.getChecked("k", () -> {
+            throw new IOException();
+        }));
+        assertEquals(0, cache.size());
+        assertEquals(Try.success(1), Try.of(() -> cache.getChecked("k", () -> 1)));
+    }
+
+    @Test
+    void concurrentMissesShareOneEvaluation() throws InterruptedException, ExecutionException
+    {
+        final var calls = new AtomicInteger();
+        final var started = new CountDownLatch(1);
+        final var release = new CountDownLatch(1);
+        final MemoCache<Object> cache = MemoCache.lru(10);
+        final var value = new Object();
+        final var executor = Executors.newFixedThreadPool(8);
+        try
+        {
+            final var futures = new ArrayList<Future<Object>>();
+            futures.add(executor.submit(() -> cache.get("k", () -> {
+                calls.incrementAndGet();
+                started.countDown();
+                await(release);
+                return value;
+            })));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            for (var i = 0; i < 7; i++)
+            {
+                futures.add(executor.submit(() -> cache.get("k", () -> {
+                    calls.incrementAndGet();
+                    return new Object();
+                })));
+            }
+            release.countDown();
+            for (final var future : futures)
+            {
+                assertSame(value, future.get());
+            }
+        } finally
+        {
+            executor.shutdownNow();
+        }
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void waitersReceiveTheFailureOfTheSharedEvaluation() throws InterruptedException
+    {
+        final var started = new CountDownLatch(1);
+        final var release = new CountDownLatch(1);
+        final MemoCache<Object> cache = MemoCache.lru(10);
+        final var executor = Executors.newFixedThreadPool(2);
+        try
+        {
+            executor.submit(() -> Try.of(() -> cache.getChecked("k", () -> {
+                started.countDown();
+                await(release);
+                throw new IOException("boom");
+            })));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            final var waiter = executor.submit(() -> Try.of(() -> cache.getChecked("k", Object::new)));
+            while (cache.stats().misses() < 2)
+            {
+                Thread.onSpinWait();
+            }
+            release.countDown();
+            assertInstanceOf(IOException.class, waiter.get().getCause());
+        } catch (final ExecutionException e)
+        {
+            throw new AssertionError(e);
+        } finally
+        {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void invalidArgumentsAreRejected()
+    {
+        assertThrows(IllegalArgumentException.class, () -> MemoCache.lru(0));
+        assertThrows(IllegalArgumentException.class, () -> MemoCache.lru(1, Duration.ZERO));
+        assertThrows(NullPointerException.class, () -> MemoCache.lru(1, null));
+    }
+
+    private static void await(final CountDownLatch latch)
+    {
+        try
+        {
+            latch.await();
+        } catch (final InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Test
+    void recursiveLoadOfTheSameKeyFailsInsteadOfDeadlocking()
+    {
+        final MemoCache<Integer> cache = MemoCache.lru(16);
+        final var calls = new AtomicInteger();
+
+        final var thrown = assertThrows(IllegalStateException.class, () -> cache.get("k", () -> {
+            calls.incrementAndGet();
+            return cache.get("k", () -> 1);
+        }));
+
+        assertEquals("Recursive load of the same key", thrown.getMessage());
+        assertEquals(1, calls.get());
+        assertEquals(0, cache.size());
+        assertEquals(2, cache.get("k", () -> 2));
+    }
+
+    @Test
+    void memoizedFunctionCallingItselfWithOtherParametersLoadsThem()
+    {
+        final MemoCache<Long> cache = MemoCache.lru(128);
+        final var fibonacci = new AtomicReference<Function1<Integer, Long>>();
+        final Function1<Integer, Long> function = (Integer n) ->
+                n < 2 ? (long) n : fibonacci.get().apply(n - 1) + fibonacci.get().apply(n - 2);
+        fibonacci.set(function.memoized(cache));
+
+        assertEquals(12_586_269_025L, fibonacci.get().apply(50));
+    }
+}
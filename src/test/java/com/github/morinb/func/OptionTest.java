@@ -22,10 +22,14 @@ import org.junit.jupiter.api.Test;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -208,4 +212,22 @@ class OptionTest
     {
         assertEquals("Some(null)", Option.some(null).toString());
     }
+
+    @Test
+    void someOfCanonicalValuesIsShared()
+    {
+        assertSame(Option.some(true), Option.some(true));
+        assertSame(Option.some(null), Option.some(null));
+        assertSame(Option.some(5), Option.of(5));
+    }
+
+    @Test
+    void mapToPrimitiveDoesNotBoxTheResult()
+    {
+        assertEquals(OptionalInt.of(3), Option.some("abc").mapToInt(String::length));
+        assertEquals(OptionalLong.of(3L), Option.some("abc").mapToLong(String::length));
+        assertEquals(OptionalDouble.of(1.5), Option.some("abc").mapToDouble(s -> s.length() / 2.0));
+        assertEquals(OptionalInt.empty(), Option.<String>none().mapToInt(String::length));
+        assertThrows(NullPointerException.class, () -> Option.some("abc").mapToInt(null));
+    }
 }
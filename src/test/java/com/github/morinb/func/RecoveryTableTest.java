@@ -0,0 +1,90 @@
+/*
+ * Copyright 2026 Baptiste MORIN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.morinb.func;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class RecoveryTableTest
+{
+
+    private static final RecoveryTable<String> TABLE = RecoveryTable.<String>empty()
+            .on(FileNotFoundException.class, e -> "missing")
+            .on(IOException.class, e -> "io: " + e.getMessage())
+            .on(RuntimeException.class, e -> "runtime");
+
+    @Test
+    void firstRegisteredMatchWins()
+    {
+        assertEquals(Try.success("missing"), Try.<String>failure(new FileNotFoundException()).recoverWith(TABLE));
+        assertEquals(Try.success("io: disk"), Try.<String>failure(new IOException("disk")).recoverWith(TABLE));
+        assertEquals(Try.success("runtime"), Try.<String>failure(new UncheckedIOException(new IOException())).recoverWith(TABLE));
+    }
+
+    @Test
+    void unmatchedFailureIsKept()
+    {
+        final Try<String> failure = Try.failure(new InterruptedException());
+
+        assertSame(failure, failure.recoverWith(TABLE));
+        assertNull(TABLE.handlerFor(InterruptedException.class));
+    }
+
+    @Test
+    void successIsKept()
+    {
+        final Try<String> success = Try.success("value");
+
+        assertSame(success, success.recoverWith(TABLE));
+    }
+
+    @Test
+    void throwingHandlerGivesAFailure()
+    {
+        final var table = RecoveryTable.<String>empty().on(IOException.class, e -> {
+            throw new IllegalStateException(e);
+        });
+
+        assertInstanceOf(IllegalStateException.class, Try.<String>failure(new IOException()).recoverWith(table).getCause());
+    }
+
+    @Test
+    void tablesAreImmutable()
+    {
+        final var base = RecoveryTable.<String>empty().on(IOException.class, e -> "io");
+        final var extended = base.on(RuntimeException.class, e -> "runtime");
+
+        assertEquals(1, base.size());
+        assertEquals(2, extended.size());
+        assertNull(base.handlerFor(IllegalStateException.class));
+        assertEquals(0, RecoveryTable.empty().size());
+    }
+
+    @Test
+    void resolvedHandlerIsCachedPerClass()
+    {
+        assertSame(TABLE.handlerFor(FileNotFoundException.class), TABLE.handlerFor(FileNotFoundException.class));
+    }
+}
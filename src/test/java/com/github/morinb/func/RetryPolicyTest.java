@@ -0,0 +1,272 @@
+/*
+ * Copyright 2026 Baptiste MORIN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.morinb.func;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RetryPolicyTest
+{
+
+    @Test
+    void retryStopsOnFirstSuccess()
+    {
+        final var calls = new AtomicInteger();
+        final Try<Integer> result = Try.retry(() ->
+        {
+            if (calls.incrementAndGet() < 3)
+            {
+                throw new IOException("boom");
+            }
+            return 42;
+        }, RetryPolicy.maxAttempts(5));
+
+        assertEquals(Try.success(42), result);
+        assertEquals(3, calls.get());
+    }
+
+    @Test
+    void retryGivesUpAfterMaxAttempts()
+    {
+        final var calls = new AtomicInteger();
+        final Try<Integer> result = Try.retry(() ->
+        {
+            calls.incrementAndGet();
+            throw new IOException("boom");
+        }, RetryPolicy.maxAttempts(4));
+
+        assertTrue(result.isFailure());
+        assertInstanceOf(IOException.class, result.getCause());
+        assertEquals(4, calls.get());
+    }
+
+    @Test
+    void retryOnlyRetriesMatchingExceptions()
+    {
+        final var calls = new AtomicInteger();
+        final Try<Integer> result = Try.retry(() ->
+        {
+            calls.incrementAndGet();
+            throw new IllegalStateException("fatal");
+        }, RetryPolicy.maxAttempts(4).retryOn(IOException.class));
+
+        assertInstanceOf(IllegalStateException.class, result.getCause());
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void retryIfUsesThePredicate()
+    {
+        final var calls = new AtomicInteger();
+        Try.retry(() ->
+        {
+            calls.incrementAndGet();
+            throw new IOException("transient");
+        }, RetryPolicy.maxAttempts(4).retryIf(e -> "transient".equals(e.getMessage())));
+
+        assertEquals(4, calls.get());
+    }
+
+    @Test
+    void backoffGrowsAndIsCapped()
+    {
+        final var policy = RetryPolicy.maxAttempts(10)
+                .withBackoff(Duration.ofMillis(10), 2.0, Duration.ofMillis(50));
+
+        assertEquals(Duration.ofMillis(10), policy.delayBefore(1));
+        assertEquals(Duration.ofMillis(20), policy.delayBefore(2));
+        assertEquals(Duration.ofMillis(40), policy.delayBefore(3));
+        assertEquals(Duration.ofMillis(50), policy.delayBefore(4));
+        assertEquals(Duration.ofMillis(50), policy.delayBefore(9));
+    }
+
+    @Test
+    void jitterStaysWithinBounds()
+    {
+        final var policy = RetryPolicy.maxAttempts(2)
+                .withFixedDelay(Duration.ofMillis(100))
+                .withJitter(0.2);
+
+        for (var i = 0; i < 1000; i++)
+        {
+            final var delay = policy.delayBefore(1);
+            assertTrue(delay.compareTo(Duration.ofMillis(80)) >= 0, delay::toString);
+            assertTrue(delay.compareTo(Duration.ofMillis(120)) <= 0, delay::toString);
+        }
+    }
+
+    @Test
+    void invalidSettingsAreRejected()
+    {
+        assertThrows(IllegalArgumentException.class, () -> RetryPolicy.maxAttempts(0));
+        assertThrows(IllegalArgumentException.class, () -> RetryPolicy.maxAttempts(2).withJitter(1.5));
+        assertThrows(IllegalArgumentException.class,
+                () -> RetryPolicy.maxAttempts(2).withBackoff(Duration.ofMillis(10), 0.5, Duration.ofMillis(20)));
+        assertThrows(IllegalArgumentException.class,
+                () -> RetryPolicy.maxAttempts(2).withBackoff(Duration.ofMillis(10), 2.0, Duration.ofMillis(5)));
+    }
+
+    @Test
+    void listenerReceivesEveryAttempt()
+    {
+        final List<RetryAttempt> attempts = new ArrayList<>();
+        final var calls = new AtomicInteger();
+        Try.retry(() ->
+        {
+            if (calls.incrementAndGet() < 3)
+            {
+                throw new IOException("boom");
+            }
+            return "done";
+        }, RetryPolicy.maxAttempts(5).withFixedDelay(Duration.ofMillis(1)).onAttempt(attempts::add));
+
+        assertEquals(3, attempts.size());
+        assertEquals(1, attempts.get(0).attempt());
+        assertTrue(attempts.get(0).willRetry());
+        assertEquals(Option.some(Duration.ofMillis(1)), attempts.get(1).retryDelay());
+        assertTrue(attempts.get(2).outcome().isSuccess());
+        assertFalse(attempts.get(2).willRetry());
+        assertFalse(attempts.get(2).duration().isNegative());
+    }
+
+    @Test
+    void retryAsyncSucceedsAfterFailures()
+    {
+        final var calls = new AtomicInteger();
+        final TryFuture<Integer> future = Try.retryAsync(() ->
+        {
+            if (calls.incrementAndGet() < 3)
+            {
+                throw new IOException("boom");
+            }
+            return 42;
+        }, RetryPolicy.maxAttempts(5).withFixedDelay(Duration.ofMillis(5)));
+
+        assertEquals(Try.success(42), future.await(Duration.ofSeconds(5)));
+        assertEquals(3, calls.get());
+    }
+
+    @Test
+    void retryAsyncReportsTheLastFailure()
+    {
+        final TryFuture<Integer> future = Try.retryAsync(() ->
+        {
+            throw new IOException("boom");
+        }, RetryPolicy.maxAttempts(3).withFixedDelay(Duration.ofMillis(1)));
+
+        assertInstanceOf(IOException.class, future.await(Duration.ofSeconds(5)).getCause());
+    }
+
+    @Test
+    void retryAsyncCompletesWhenTheListenerThrows()
+    {
+        final TryFuture<Integer> future = Try.retryAsync(() -> 42, RetryPolicy.maxAttempts(3).onAttempt(attempt ->
+        {
+            throw new IllegalStateException("listener");
+        }));
+
+        final var result = future.await(Duration.ofSeconds(5));
+
+        assertInstanceOf(IllegalStateException.class, result.getCause());
+        assertEquals("listener", result.getCause().getMessage());
+    }
+
+    @Test
+    void retryAsyncCompletesWhenThePredicateThrows()
+    {
+        final TryFuture<Integer> future = Try.retryAsync(() ->
+        {
+            throw new IOException("boom");
+        }, RetryPolicy.maxAttempts(3).retryIf(throwable ->
+        {
+            throw new IllegalArgumentException("predicate");
+        }));
+
+        final var result = future.await(Duration.ofSeconds(5));
+
+        assertInstanceOf(IllegalArgumentException.class, result.getCause());
+        assertEquals("predicate", result.getCause().getMessage());
+    }
+
+    @Test
+    void retryReturnsAFailureWhenTheListenerThrows()
+    {
+        final Try<Integer> result = Try.retry(() -> 42, RetryPolicy.maxAttempts(3).onAttempt(attempt ->
+        {
+            throw new IllegalStateException("listener");
+        }));
+
+        assertInstanceOf(IllegalStateException.class, result.getCause());
+        assertEquals("listener", result.getCause().getMessage());
+    }
+
+    @Test
+    void retryReturnsAFailureWhenThePredicateThrows()
+    {
+        final Try<Integer> result = Try.retry(() ->
+        {
+            throw new IOException("boom");
+        }, RetryPolicy.maxAttempts(3).retryIf(throwable ->
+        {
+            throw new IllegalArgumentException("predicate");
+        }));
+
+        assertInstanceOf(IllegalArgumentException.class, result.getCause());
+        assertEquals("predicate", result.getCause().getMessage());
+    }
+
+    @Test
+    void retryByDefaultRetriesExceptionsButNotErrorsOrInterruptions()
+    {
+        final var calls = new AtomicInteger();
+        final var policy = RetryPolicy.maxAttempts(3);
+
+        Try.retry(() ->
+        {
+            calls.incrementAndGet();
+            throw new IllegalStateException("transient");
+        }, policy);
+        assertEquals(3, calls.get());
+
+        final Try<Integer> error = Try.retry(() ->
+        {
+            calls.incrementAndGet();
+            throw new StackOverflowError();
+        }, policy);
+        assertInstanceOf(StackOverflowError.class, error.getCause());
+        assertEquals(4, calls.get());
+
+        final Try<Integer> interrupted = Try.retry(() ->
+        {
+            calls.incrementAndGet();
+            throw new InterruptedException();
+        }, policy);
+        assertInstanceOf(InterruptedException.class, interrupted.getCause());
+        assertEquals(5, calls.get());
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2026 Baptiste MORIN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.morinb.func;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SoftLazyTest
+{
+
+    @Test
+    void valueIsComputedOnce()
+    {
+        final var calls = new AtomicInteger();
+        final var lazy = Lazy.soft(calls::incrementAndGet);
+
+        assertFalse(lazy.isEvaluated());
+        assertEquals(1, lazy.get());
+        assertEquals(1, lazy.get());
+        assertTrue(lazy.isEvaluated());
+        assertEquals(1, lazy.computations());
+        assertEquals(0, lazy.recomputations());
+    }
+
+    @Test
+    void reclaimedValueIsRecomputed()
+    {
+        final var calls = new AtomicInteger();
+        final var lazy = Lazy.soft(calls::incrementAndGet);
+        lazy.get();
+
+        lazy.clear();
+
+        assertFalse(lazy.isEvaluated());
+        assertEquals("SoftLazy(?)", lazy.toString());
+        assertEquals(2, lazy.get());
+        assertEquals(2, lazy.computations());
+        assertEquals(1, lazy.recomputations());
+    }
+
+    @Test
+    void nullValueIsHeld()
+    {
+        final var calls = new AtomicInteger();
+        final var lazy = Lazy.soft(() -> {
+            calls.incrementAndGet();
+            return null;
+        });
+
+        assertNull(lazy.get());
+        assertNull(lazy.get());
+        assertEquals(1, calls.get());
+        assertEquals("SoftLazy(null)", lazy.toString());
+    }
+
+    @Test
+    void failedComputationIsNotCounted()
+    {
+        final var lazy = Lazy.<Integer>soft(() -> {
+            throw new IllegalStateException();
+        });
+
+        assertThrows(IllegalStateException.class, lazy::get);
+        assertEquals(0, lazy.computations());
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2026 Baptiste MORIN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.morinb.func;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class ToDoubleFunction1Test
+{
+
+    @Test
+    void testApply()
+    {
+        final ToDoubleFunction1<String> lengthFunc = String::length;
+
+        assertEquals(5.0, lengthFunc.applyAsDouble("Hello"));
+    }
+
+    @Test
+    void testAndThen()
+    {
+        final ToDoubleFunction1<String> lengthFunc = String::length;
+        final var composedFunc = lengthFunc.andThen((double length) -> "length " + length);
+
+        assertEquals("length 5.0", composedFunc.apply("Hello"));
+    }
+
+    @Test
+    void testAndThenPrimitive()
+    {
+        final ToDoubleFunction1<String> lengthFunc = String::length;
+        final var rounded = lengthFunc.andThenInt(length -> (int) Math.round(length * 1.5));
+        final var truncated = lengthFunc.andThenLong(length -> (long) (length * 1.5));
+        final var halved = lengthFunc.andThenDouble(length -> length / 2);
+
+        assertEquals(8, rounded.applyAsInt("Hello"));
+        assertEquals(7L, truncated.applyAsLong("Hello"));
+        assertEquals(2.5, halved.applyAsDouble("Hello"));
+    }
+
+    @Test
+    void testCurried()
+    {
+        final ToDoubleFunction1<String> lengthFunc = String::length;
+
+        assertSame(lengthFunc, lengthFunc.curried());
+    }
+}
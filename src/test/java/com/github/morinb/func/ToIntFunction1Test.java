@@ -0,0 +1,64 @@
+/*
+ * Copyright 2026 Baptiste MORIN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.morinb.func;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class ToIntFunction1Test
+{
+
+    @Test
+    void testApply()
+    {
+        final ToIntFunction1<String> lengthFunc = String::length;
+
+        assertEquals(5, lengthFunc.applyAsInt("Hello"));
+    }
+
+    @Test
+    void testAndThen()
+    {
+        final ToIntFunction1<String> lengthFunc = String::length;
+        final var composedFunc = lengthFunc.andThen((int length) -> "length " + length);
+
+        assertEquals("length 5", composedFunc.apply("Hello"));
+    }
+
+    @Test
+    void testAndThenPrimitive()
+    {
+        final ToIntFunction1<String> lengthFunc = String::length;
+        final var doubled = lengthFunc.andThenInt(length -> length * 2);
+        final var widened = lengthFunc.andThenLong(length -> length * 10_000_000_000L);
+        final var halved = lengthFunc.andThenDouble(length -> length / 2.0);
+
+        assertEquals(10, doubled.applyAsInt("Hello"));
+        assertEquals(50_000_000_000L, widened.applyAsLong("Hello"));
+        assertEquals(2.5, halved.applyAsDouble("Hello"));
+    }
+
+    @Test
+    void testCurried()
+    {
+        final ToIntFunction1<String> lengthFunc = String::length;
+
+        assertSame(lengthFunc, lengthFunc.curried());
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright 2026 Baptiste MORIN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.morinb.func;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TrampolineTest
+{
+
+    private static final int DEPTH = 200_000;
+
+    private static Trampoline<Long> sum(final long n, final long accumulator)
+    {
+        return n == 0 ? Trampoline.done(accumulator) : Trampoline.defer(() -> sum(n - 1, accumulator + n));
+    }
+
+    private static Trampoline<Boolean> isEven(final int n)
+    {
+        return n == 0 ? Trampoline.done(true) : Trampoline.defer(() -> isOdd(n - 1));
+    }
+
+    private static Trampoline<Boolean> isOdd(final int n)
+    {
+        return n == 0 ? Trampoline.done(false) : Trampoline.defer(() -> isEven(n - 1));
+    }
+
+    private static Trampoline<Integer> countDown(final int n)
+    {
+        return n == 0 ? Trampoline.done(0) : Trampoline.delay(() -> n - 1).flatMap(TrampolineTest::countDown).map(i -> i + 1);
+    }
+
+    @Test
+    void deferredRecursionIsStackSafe()
+    {
+        assertEquals((long) DEPTH * (DEPTH + 1) / 2, sum(DEPTH, 0).run());
+        assertTrue(isEven(DEPTH).run());
+        assertFalse(isOdd(DEPTH).run());
+    }
+
+    @Test
+    void recursiveFlatMapIsStackSafe()
+    {
+        assertEquals(DEPTH, countDown(DEPTH).run());
+    }
+
+    @Test
+    void leftNestedFlatMapChainIsStackSafe()
+    {
+        Trampoline<Integer> chain = Trampoline.done(0);
+        for (var i = 0; i < DEPTH; i++)
+        {
+            chain = chain.flatMap(n -> Trampoline.done(n + 1));
+        }
+
+        assertEquals(DEPTH, chain.run());
+    }
+
+    @Test
+    void tryChainIsStackSafeAndShortCircuits()
+    {
+        Trampoline<Try<Integer>> chain = Trampoline.done(Try.success(0));
+        for (var i = 0; i < DEPTH; i++)
+        {
+            chain = Trampoline.flatMapTry(chain, n -> Trampoline.done(Try.success(n + 1)));
+        }
+        final var calls = new int[1];
+        final var failing = Trampoline.flatMapTry(Trampoline.flatMapTry(chain, n -> {
+            throw new IllegalStateException("at " + n);
+        }), n -> {
+            calls[0]++;
+            return Trampoline.done(Try.success(n));
+        });
+
+        assertEquals(Try.success(DEPTH), chain.run());
+        assertInstanceOf(IllegalStateException.class, failing.run().getCause());
+        assertEquals(0, calls[0]);
+    }
+
+    @Test
+    void eitherChainIsStackSafeAndShortCircuits()
+    {
+        Trampoline<Either<String, Integer>> chain = Trampoline.done(Either.right(0));
+        for (var i = 0; i < DEPTH; i++)
+        {
+            chain = Trampoline.flatMapRight(chain, n -> Trampoline.done(n == 10 ? Either.left("stop") : Either.right(n + 1)));
+        }
+
+        assertEquals(Either.left("stop"), chain.run());
+    }
+
+    @Test
+    void toTryCapturesExceptions()
+    {
+        final Trampoline<Integer> failing = Trampoline.delay(() -> {
+            throw new IllegalStateException();
+        });
+
+        assertInstanceOf(IllegalStateException.class, failing.toTry().getCause());
+        assertEquals(Try.success(1), Trampoline.done(1).toTry());
+    }
+
+    @Test
+    void toLazyDefersEvaluation()
+    {
+        final var calls = new int[1];
+        final var lazy = Trampoline.delay(() -> ++calls[0]).toLazy();
+
+        assertEquals(0, calls[0]);
+        assertEquals(1, lazy.get());
+        assertEquals(1, lazy.get());
+    }
+
+    @Test
+    void millionStepsMatchDirectEvaluation()
+    {
+        final var steps = 1_000_000;
+        var direct = 0L;
+        for (var i = 0; i < steps; i++)
+        {
+            direct += i;
+        }
+
+        assertEquals(direct, sum(steps - 1L, 0).run());
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright 2026 Baptiste MORIN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.morinb.func;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TryFutureTest
+{
+
+    @Test
+    void asyncCompletesWithTheSupplierResult()
+    {
+        assertEquals(Try.success(42), Try.async(() -> 42).await());
+    }
+
+    @Test
+    void asyncCapturesTheThrownException()
+    {
+        final var result = Try.async(() -> {
+            throw new IOException("boom");
+        }).await();
+
+        assertInstanceOf(IOException.class, result.getCause());
+    }
+
+    @Test
+    void combinatorsDoNotBlock() throws InterruptedException
+    {
+        final var release = new CountDownLatch(1);
+        final var future = Try.async(() -> {
+            release.await();
+            return 20;
+        }).map(i -> i + 1).flatMap(i -> Try.async(() -> i * 2));
+
+        assertFalse(future.isDone());
+        release.countDown();
+        assertEquals(Try.success(42), future.await());
+    }
+
+    @Test
+    void flatMapShortCircuitsOnFailure()
+    {
+        final var result = Try.<Integer>async(() -> {
+            throw new IllegalStateException();
+        }).flatMap(i -> Try.async(() -> i * 2)).await();
+
+        assertInstanceOf(IllegalStateException.class, result.getCause());
+    }
+
+    @Test
+    void flatMapCapturesAThrowingMapper()
+    {
+        final var result = Try.async(() -> 1).<Integer>flatMap(i -> {
+            throw new IllegalArgumentException();
+        }).await();
+
+        assertInstanceOf(IllegalArgumentException.class, result.getCause());
+    }
+
+    @Test
+    void recoverAppliesOnMatchingFailure()
+    {
+        final var result = Try.async(() -> 1 / 0).recover(ArithmeticException.class, e -> -1).await();
+
+        assertEquals(Try.success(-1), result);
+    }
+
+    @Test
+    void zipCombinesBothValues()
+    {
+        final var result = Try.async(() -> "a").zip(Try.async(() -> 1)).await();
+
+        assertEquals(Try.success(new Pair<>("a", 1)), result);
+    }
+
+    @Test
+    void zipReturnsTheFirstFailure()
+    {
+        final var result = Try.async(() -> "a").zip(Try.async(() -> {
+            throw new IOException();
+        })).await();
+
+        assertInstanceOf(IOException.class, result.getCause());
+    }
+
+    @Test
+    void awaitWithTimeoutReturnsATimeoutFailure()
+    {
+        final var release = new CountDownLatch(1);
+        final var future = Try.async(() -> {
+            release.await();
+            return 1;
+        });
+
+        final var result = future.await(Duration.ofMillis(10));
+
+        assertInstanceOf(TimeoutException.class, result.getCause());
+        release.countDown();
+        assertEquals(Try.success(1), future.await());
+    }
+
+    @Test
+    void cancelInterruptsTheComputation() throws InterruptedException
+    {
+        final var started = new CountDownLatch(1);
+        final var interrupted = new CountDownLatch(1);
+        final var future = Try.async(() -> {
+            started.countDown();
+            try
+            {
+                Thread.sleep(10_000);
+            } catch (final InterruptedException e)
+            {
+                interrupted.countDown();
+                throw e;
+            }
+            return 1;
+        });
+        started.await();
+
+        assertTrue(future.cancel());
+        assertInstanceOf(CancellationException.class, future.await().getCause());
+        assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void asyncRunsOnTheGivenExecutor()
+    {
+        final var threadName = Try.async(() -> Thread.currentThread().getName(), runnable -> {
+            final var thread = new Thread(runnable, "custom-executor");
+            thread.start();
+        }).await();
+
+        assertEquals(Try.success("custom-executor"), threadName);
+    }
+}
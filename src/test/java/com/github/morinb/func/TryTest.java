@@ -17,13 +17,23 @@
 package com.github.morinb.func;
 
 import org.junit.jupiter.api.Test;
-
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -271,4 +281,257 @@ class TryTest
         );
 
     }
+
+    @Test
+    void successOfCanonicalValuesIsShared()
+    {
+        assertSame(Try.success(null), Try.of(() -> null));
+        assertSame(Try.success(true), Try.success(true));
+        assertSame(Try.success(0), Try.of(() -> 0));
+        assertEquals(Try.success("value"), Try.of(() -> "value"));
+    }
+
+    @Test
+    void singleValuedQueriesOnSuccess()
+    {
+        final var success = Try.success(5);
+        final var visited = new StringBuilder();
+        success.forEach(visited::append);
+
+        assertTrue(success.contains(5));
+        assertTrue(success.exists(i -> i == 5));
+        assertFalse(success.forAll(i -> i > 5));
+        assertEquals("5", visited.toString());
+        assertThrows(NullPointerException.class, () -> success.forAll(null));
+    }
+
+    @Test
+    void singleValuedQueriesOnFailure()
+    {
+        final Try<Integer> failure = Try.of(() -> {
+            throw new IllegalStateException();
+        });
+        final var visited = new StringBuilder();
+        failure.forEach(visited::append);
+
+        assertFalse(failure.contains(null));
+        assertFalse(failure.exists(i -> true));
+        assertTrue(failure.forAll(i -> false));
+        assertEquals("", visited.toString());
+    }
+
+    @Test
+    void failureWithReasonCapturesNoStackTrace()
+    {
+        final Try<Integer> failure = Try.stacklessFailure("Not a number");
+
+        assertTrue(failure.isFailure());
+        assertInstanceOf(StacklessException.class, failure.getCause());
+        assertEquals("Not a number", failure.getCause().getMessage());
+        assertEquals(0, failure.getCause().getStackTrace().length);
+    }
+
+    @Test
+    void failureAcceptsAPreallocatedException()
+    {
+        final var notANumber = new StacklessException("Not a number");
+
+        assertSame(notANumber, Try.failure(notANumber).getCause());
+        assertSame(notANumber, Try.of(() -> {
+            throw notANumber;
+        }).getCause());
+    }
+
+    @Test
+    void stacklessExceptionRecordsNoSuppressedException()
+    {
+        final var exception = new StacklessException("reason", new IllegalStateException());
+        exception.addSuppressed(new IllegalArgumentException());
+
+        assertEquals(0, exception.getSuppressed().length);
+        assertInstanceOf(IllegalStateException.class, exception.getCause());
+    }
+
+    @Test
+    void failureRejectsNullThrowable()
+    {
+        assertThrows(NullPointerException.class, () -> Try.failure(null));
+    }
+
+    @Test
+    void failureWithReasonCanCaptureAStackTracePerCall()
+    {
+        final var failure = Try.failure("Not a number", true);
+
+        assertEquals("Not a number", failure.getCause().getMessage());
+        assertTrue(failure.getCause().getStackTrace().length > 0);
+        assertEquals(0, Try.failure("Not a number", false).getCause().getStackTrace().length);
+    }
+
+    @Test
+    void getOnFailureCapturesStackTraceByDefault()
+    {
+        final var exception = assertThrows(NoSuchElementException.class, () -> Try.stacklessFailure("reason").get());
+
+        assertTrue(exception.getStackTrace().length > 0);
+    }
+
+    @Test
+    void traverseKeepsInputOrder()
+    {
+        final var values = new ArrayList<Integer>();
+        for (var i = 0; i < 200; i++)
+        {
+            values.add(i);
+        }
+        final Try<FList<Integer>> result = Try.traverse(values, i -> {
+            Thread.sleep(i % 3);
+            return i * 2;
+        }, 8);
+
+        assertEquals(200, result.get().size());
+        assertEquals(0, result.get().get(0));
+        assertEquals(398, result.get().get(199));
+    }
+
+    @Test
+    void traverseBoundsConcurrency()
+    {
+        final var running = new AtomicInteger();
+        final var maxRunning = new AtomicInteger();
+        final Try<FList<Integer>> result = Try.traverse(List.of(1, 2, 3, 4, 5, 6, 7, 8, 9, 10), i -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            Thread.sleep(5);
+            running.decrementAndGet();
+            return i;
+        }, 3);
+
+        assertTrue(result.isSuccess());
+        assertTrue(maxRunning.get() <= 3);
+    }
+
+    @Test
+    void traverseFailFastCancelsTheRemainingWork()
+    {
+        final var calls = new AtomicInteger();
+        final Try<FList<Integer>> result = Try.traverse(List.of(1, 2, 3, 4, 5, 6, 7, 8, 9, 10), i -> {
+            calls.incrementAndGet();
+            if (i == 1)
+            {
+                throw new IOException("boom");
+            }
+            Thread.sleep(10_000);
+            return i;
+        }, 2);
+
+        assertInstanceOf(IOException.class, result.getCause());
+        assertTrue(calls.get() <= 2);
+    }
+
+    @Test
+    void traverseCollectAllReportsEveryFailure()
+    {
+        final var calls = new AtomicInteger();
+        final Try<FList<Integer>> result = Try.traverse(List.of(1, 2, 3, 4, 5), i -> {
+            calls.incrementAndGet();
+            if (i % 2 == 0)
+            {
+                throw new IOException("boom " + i);
+            }
+            return i;
+        }, 2, TraverseMode.COLLECT_ALL);
+
+        assertEquals(5, calls.get());
+        assertEquals("boom 2", result.getCause().getMessage());
+        assertEquals(1, result.getCause().getSuppressed().length);
+        assertEquals("boom 4", result.getCause().getSuppressed()[0].getMessage());
+    }
+
+    @Test
+    void traverseOfEmptyIsAnEmptyList()
+    {
+        final Try<FList<Integer>> result = Try.traverse(List.<Integer>of(), i -> i, 4);
+
+        assertEquals(0, result.get().size());
+    }
+
+    @Test
+    void traverseRejectsInvalidParallelism()
+    {
+        assertThrows(IllegalArgumentException.class, () -> Try.traverse(List.of(1), i -> i, 0));
+    }
+
+    @Test
+    void withResourceClosesOnSuccess()
+    {
+        final var closed = new AtomicInteger();
+        final Try<Integer> result = Try.withResource(() -> (AutoCloseable) closed::incrementAndGet, resource -> 42);
+
+        assertEquals(Try.success(42), result);
+        assertEquals(1, closed.get());
+    }
+
+    @Test
+    void withResourceClosesOnFailure()
+    {
+        final var closed = new AtomicInteger();
+        final Try<Integer> result = Try.withResource(() -> (AutoCloseable) closed::incrementAndGet, resource -> {
+            throw new IOException("boom");
+        });
+
+        assertInstanceOf(IOException.class, result.getCause());
+        assertEquals(1, closed.get());
+    }
+
+    @Test
+    void withResourceReportsCloseFailureAsSuppressed()
+    {
+        final Try<Integer> result = Try.withResource(() -> (AutoCloseable) () -> {
+            throw new IllegalStateException("close");
+        }, resource -> {
+            throw new IOException("use");
+        });
+
+        assertInstanceOf(IOException.class, result.getCause());
+        assertInstanceOf(IllegalStateException.class, result.getCause().getSuppressed()[0]);
+    }
+
+    @Test
+    void withLinesReadsLazily(@TempDir final Path directory) throws IOException
+    {
+        final var file = Files.write(directory.resolve("lines.txt"), List.of("a", "bb", "ccc"));
+
+        final Try<String> first = Try.withLines(file, Iterator::next);
+        final Try<Integer> total = Try.withLines(file, lines -> {
+            var length = 0;
+            while (lines.hasNext())
+            {
+                length += lines.next().length();
+            }
+            return length;
+        });
+
+        assertEquals(Try.success("a"), first);
+        assertEquals(Try.success(6), total);
+    }
+
+    @Test
+    void withLinesFailsOnMissingFile(@TempDir final Path directory)
+    {
+        assertInstanceOf(NoSuchFileException.class, Try.withLines(directory.resolve("missing"), Iterator::next).getCause());
+    }
+
+    @Test
+    void withMappedLinesReadsEveryLine(@TempDir final Path directory) throws IOException
+    {
+        final var file = Files.writeString(directory.resolve("lines.txt"), "a\r\nbb\n\nccc");
+
+        final Try<List<String>> lines = Try.withMappedLines(file, iterator -> {
+            final var result = new ArrayList<String>();
+            iterator.forEachRemaining(result::add);
+            return result;
+        });
+
+        assertEquals(Try.success(List.of("a", "bb", "", "ccc")), lines);
+    }
 }
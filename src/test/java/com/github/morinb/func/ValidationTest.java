@@ -0,0 +1,126 @@
+/*
+ * Copyright 2026 Baptiste MORIN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.morinb.func;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ValidationTest
+{
+    private static Either<String, Integer> validatePositive(final int value)
+    {
+        return value > 0 ? Either.right(value) : Either.left("Invalid " + value);
+    }
+
+    @Test
+    void applyBuildsTheResultWhenEveryFieldIsRight()
+    {
+        final var validation = Validation.<String>builder();
+        IntStream.rangeClosed(1, 25).forEach(i -> validation.field(validatePositive(i)));
+
+        final var result = validation.apply(fields -> {
+            final var sum = new int[1];
+            for (var i = 0; i < fields.size(); i++)
+            {
+                sum[0] += fields.<Integer>get(i);
+            }
+            return sum[0];
+        });
+
+        assertTrue(result.isRight());
+        assertEquals(Integer.valueOf(325), result.get());
+    }
+
+    @Test
+    void fieldsOfDifferentTypesAreReadBackByIndex()
+    {
+        final var result = Validation.<String>builder()
+                .field(Either.right("John"))
+                .field(validatePositive(42))
+                .field(Either.right(List.of("a", "b")))
+                .apply(fields -> fields.<String>get(0) + ":" + fields.<Integer>get(1) + ":" + fields.<List<String>>get(2).size());
+
+        assertEquals(Either.right("John:42:2"), result);
+    }
+
+    @Test
+    void applyAccumulatesEveryLeftInOrder()
+    {
+        final var called = new ArrayList<String>();
+        final var result = Validation.<String>builder()
+                .field(validatePositive(-1))
+                .field(validatePositive(2))
+                .field(validatePositive(-3))
+                .apply(fields -> {
+                    called.add("constructor");
+                    return fields.size();
+                });
+
+        assertEquals(NonEmptyList.of("Invalid -1", "Invalid -3"), result.getLeft());
+        assertTrue(called.isEmpty());
+    }
+
+    @Test
+    void applyAccumulatedHonoursThePolicy()
+    {
+        final var validation = Validation.<String>builder(AccumulationPolicy.keepFirst(2));
+        IntStream.rangeClosed(1, 10).forEach(i -> validation.field(validatePositive(-i)));
+
+        final var result = validation.applyAccumulated(fields -> fields.size());
+
+        assertEquals(NonEmptyList.of("Invalid -1", "Invalid -2"), result.getLeft().errors());
+        assertEquals(10, result.getLeft().count());
+    }
+
+    @Test
+    void shortCircuitingPolicyIgnoresTheRemainingFields()
+    {
+        final var validation = Validation.<String>builder(AccumulationPolicy.stopAfter(1));
+        IntStream.rangeClosed(1, 10).forEach(i -> validation.field(validatePositive(-i)));
+
+        final var result = validation.applyAccumulated(fields -> fields.size());
+
+        assertEquals(1, result.getLeft().count());
+        assertFalse(result.getLeft().isTruncated());
+    }
+
+    @Test
+    void getFailsOutOfRange()
+    {
+        final var result = Validation.<String>builder(AccumulationPolicy.unbounded(), 0)
+                .field(validatePositive(1))
+                .field(validatePositive(2))
+                .apply(fields -> fields);
+
+        assertEquals(2, result.get().size());
+        assertThrows(IndexOutOfBoundsException.class, () -> result.get().get(2));
+    }
+
+    @Test
+    void builderRejectsNegativeCapacity()
+    {
+        assertThrows(IllegalArgumentException.class, () -> Validation.builder(AccumulationPolicy.unbounded(), -1));
+    }
+}